@@ -4,13 +4,13 @@
 
 package de.mossgrabers.bitwig.framework.daw;
 
+import de.mossgrabers.bitwig.framework.daw.StepStore.StepView;
 import de.mossgrabers.bitwig.framework.daw.data.Util;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.daw.IStepInfo;
 import de.mossgrabers.framework.daw.NoteOccurrenceType;
-import de.mossgrabers.framework.daw.StepState;
 import de.mossgrabers.framework.daw.constants.Resolution;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
 import de.mossgrabers.framework.daw.data.GridStep;
@@ -41,11 +41,12 @@ public class CursorClipImpl implements INoteClip
     private final int                numSteps;
     private final int                numRows;
 
-    private final IStepInfo [] [] [] launcherData;
+    private final StepStore          launcherData;
     private final PinnableCursorClip launcherClip;
     private int                      editPage  = 0;
     private double                   stepLength;
     private final List<GridStep>     editSteps = new ArrayList<> ();
+    private boolean                  isEditUpdateScheduled;
 
 
     /**
@@ -66,7 +67,7 @@ public class CursorClipImpl implements INoteClip
         this.numRows = numRows;
         this.stepLength = 1.0 / 4.0; // 16th
 
-        this.launcherData = new IStepInfo [16] [this.numSteps] [];
+        this.launcherData = new StepStore (this.numSteps, this.numRows);
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = cursorTrack.createLauncherCursorClip (this.numSteps, this.numRows);
@@ -396,18 +397,13 @@ public class CursorClipImpl implements INoteClip
     @Override
     public IStepInfo getStep (final int channel, final int step, final int row)
     {
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
-        try
+        final StepStore stepInfos = this.getStepInfos ();
+        if (!stepInfos.contains (channel, step, row))
         {
-            if (stepInfos[channel][step] == null || stepInfos[channel][step][row] == null)
-                return EmptyStepInfo.INSTANCE;
-            return stepInfos[channel][step][row];
-        }
-        catch (final ArrayIndexOutOfBoundsException ex)
-        {
-            this.host.errorln (ex.getLocalizedMessage ());
+            this.host.errorln ("Requested step (" + channel + ", " + step + ", " + row + ") is outside of the range of the clip.");
             return EmptyStepInfo.INSTANCE;
         }
+        return stepInfos.getStep (channel, step, row);
     }
 
 
@@ -478,7 +474,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepMuteState (final int channel, final int step, final int row, final boolean isMuted)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setMuted (isMuted);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setIsMuted (isMuted);
@@ -501,7 +497,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepDuration (final int channel, final int step, final int row, final double duration)
     {
         final double d = Math.max (0, duration);
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setDuration (d);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setDuration (d);
@@ -523,7 +519,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepVelocity (final int channel, final int step, final int row, final double velocity)
     {
         final double v = Math.min (1.0, Math.max (0, velocity));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setVelocity (v);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setVelocity (v);
@@ -545,7 +541,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepVelocitySpread (final int channel, final int step, final int row, final double velocitySpread)
     {
         final double v = Math.min (1.0, Math.max (0, velocitySpread));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setVelocitySpread (v);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setVelocitySpread (v);
@@ -567,7 +563,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepReleaseVelocity (final int channel, final int step, final int row, final double releaseVelocity)
     {
         final double rv = Math.min (1.0, Math.max (0, releaseVelocity));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setReleaseVelocity (rv);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setReleaseVelocity (rv);
@@ -589,7 +585,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepPressure (final int channel, final int step, final int row, final double pressure)
     {
         final double p = Math.min (1.0, Math.max (0, pressure));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setPressure (p);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setPressure (p);
@@ -611,7 +607,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepTimbre (final int channel, final int step, final int row, final double timbre)
     {
         final double t = Math.min (1.0, Math.max (-1.0, timbre));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setTimbre (t);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setTimbre (t);
@@ -633,7 +629,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepPan (final int channel, final int step, final int row, final double pan)
     {
         final double p = Math.min (1.0, Math.max (-1.0, pan));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setPan (p);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setPan (p);
@@ -655,7 +651,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepTranspose (final int channel, final int step, final int row, final double transpose)
     {
         final double t = Math.min (24.0, Math.max (-24.0, transpose));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setTranspose (t);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setTranspose (t);
@@ -677,7 +673,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepGain (final int channel, final int step, final int row, final double gain)
     {
         final double g = Math.min (1.0, Math.max (0, gain));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setGain (g);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setGain (g);
@@ -688,7 +684,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepIsChanceEnabled (final int channel, final int step, final int row, final boolean isEnabled)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setIsChanceEnabled (isEnabled);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setIsChanceEnabled (isEnabled);
@@ -710,7 +706,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepChance (final int channel, final int step, final int row, final double chance)
     {
         final double c = Math.min (1.0, Math.max (0, chance));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setChance (c);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setChance (c);
@@ -721,7 +717,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepIsOccurrenceEnabled (final int channel, final int step, final int row, final boolean isEnabled)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setIsOccurrenceEnabled (isEnabled);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setIsOccurrenceEnabled (isEnabled);
@@ -732,7 +728,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void setStepPrevNextOccurrence (final int channel, final int step, final int row, final boolean increase)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         final NoteOccurrenceType occurrenceType = stepInfo.getOccurrence ();
         final List<NoteOccurrenceType> types = Arrays.asList (NoteOccurrenceType.values ());
         final int typeIndex = Math.max (0, types.indexOf (occurrenceType));
@@ -751,7 +747,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void setStepOccurrence (final int channel, final int step, final int row, final NoteOccurrenceType occurrence)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setOccurrence (occurrence);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setOccurrence (NoteOccurrence.valueOf (occurrence.name ()));
@@ -762,7 +758,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepIsRecurrenceEnabled (final int channel, final int step, final int row, final boolean isEnabled)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setIsRecurrenceEnabled (isEnabled);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setIsRecurrenceEnabled (isEnabled);
@@ -784,7 +780,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRecurrenceLength (final int channel, final int step, final int row, final int recurrenceLength)
     {
         final int rl = Math.min (8, Math.max (1, recurrenceLength));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setRecurrenceLength (rl);
         if (this.editSteps.isEmpty ())
         {
@@ -798,7 +794,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepRecurrenceMask (final int channel, final int step, final int row, final int mask)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setRecurrenceMask (mask);
         if (this.editSteps.isEmpty ())
         {
@@ -812,7 +808,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public void updateStepIsRepeatEnabled (final int channel, final int step, final int row, final boolean isEnabled)
     {
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setIsRepeatEnabled (isEnabled);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setIsRepeatEnabled (isEnabled);
@@ -834,7 +830,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRepeatCount (final int channel, final int step, final int row, final int value)
     {
         final int v = Math.min (127, Math.max (-127, value));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setRepeatCount (v);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setRepeatCount (v);
@@ -856,7 +852,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRepeatCurve (final int channel, final int step, final int row, final double value)
     {
         final double v = Math.min (1.0, Math.max (-1.0, value));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setRepeatCurve (v);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setRepeatCurve (v);
@@ -878,7 +874,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRepeatVelocityCurve (final int channel, final int step, final int row, final double velocityCurve)
     {
         final double vc = Math.min (1.0, Math.max (-1.0, velocityCurve));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setRepeatVelocityCurve (vc);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setRepeatVelocityCurve (vc);
@@ -900,7 +896,7 @@ public class CursorClipImpl implements INoteClip
     public void updateStepRepeatVelocityEnd (final int channel, final int step, final int row, final double velocityEnd)
     {
         final double ve = Math.min (1.0, Math.max (-1.0, velocityEnd));
-        final StepInfoImpl stepInfo = this.getUpdateableStep (channel, step, row);
+        final StepView stepInfo = this.getUpdateableStep (channel, step, row);
         stepInfo.setRepeatVelocityEnd (ve);
         if (this.editSteps.isEmpty ())
             this.getClip ().getStep (channel, step, row).setRepeatVelocityEnd (ve);
@@ -927,13 +923,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int channel, final int row)
     {
-        final IStepInfo [] [] [] data = this.getStepInfos ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return true;
-        }
-        return false;
+        return this.getStepInfos ().hasRowData (channel, row);
     }
 
 
@@ -971,10 +961,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowestRowWithData (final int channel)
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.getStepInfos ().getLowestRowWithData (channel);
     }
 
 
@@ -982,10 +969,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRowWithData (final int channel)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (channel, row))
-                return row;
-        return -1;
+        return this.getStepInfos ().getHighestRowWithData (channel);
     }
 
 
@@ -993,13 +977,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getHighestRow (final int channel, final int step)
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-        {
-            final IStepInfo [] [] [] data = this.getStepInfos ();
-            if (data[channel] != null && data[channel][step] != null && data[channel][step][row] != null && data[channel][step][row].getState () != StepState.OFF)
-                return row;
-        }
-        return -1;
+        return this.getStepInfos ().getHighestRow (channel, step);
     }
 
 
@@ -1100,9 +1078,19 @@ public class CursorClipImpl implements INoteClip
         // Is there a previous edit, which is not stopped yet?
         this.stopEdit ();
 
+        // Only send the changes which are applied during the edit
+        for (final GridStep editStep: editSteps)
+        {
+            if (this.getStep (editStep.channel (), editStep.step (), editStep.note ()) instanceof final StepView stepInfo)
+                stepInfo.clearChanges ();
+        }
         this.editSteps.addAll (editSteps);
-        for (final GridStep step: this.editSteps)
-            this.delayedUpdate (step);
+
+        if (!this.isEditUpdateScheduled)
+        {
+            this.isEditUpdateScheduled = true;
+            this.host.scheduleTask (this::delayedUpdate, 100);
+        }
     }
 
 
@@ -1116,20 +1104,25 @@ public class CursorClipImpl implements INoteClip
     }
 
 
-    private void delayedUpdate (final GridStep editStep)
+    /**
+     * Send the changes of all edited steps to Bitwig as long as the edit is active.
+     */
+    private void delayedUpdate ()
     {
         if (this.editSteps.isEmpty ())
+        {
+            this.isEditUpdateScheduled = false;
             return;
-        final int channel = editStep.channel ();
-        final int step = editStep.step ();
-        final int note = editStep.note ();
-        this.sendClipData (channel, step, note);
-        this.host.scheduleTask ( () -> this.delayedUpdate (new GridStep (channel, step, note)), 100);
+        }
+
+        for (final GridStep editStep: this.editSteps)
+            this.sendClipData (editStep.channel (), editStep.step (), editStep.note ());
+        this.host.scheduleTask (this::delayedUpdate, 100);
     }
 
 
     /**
-     * Update the locally changed step data in Bitwig.
+     * Update the locally changed step data in Bitwig. Only the changed properties are sent.
      *
      * @param channel The MIDI channel
      * @param step The step of the clip
@@ -1137,37 +1130,67 @@ public class CursorClipImpl implements INoteClip
      */
     private void sendClipData (final int channel, final int step, final int row)
     {
+        if (!(this.getStep (channel, step, row) instanceof final StepView stepInfo))
+            return;
+        final int changes = stepInfo.getChanges ();
+        if (changes == 0)
+            return;
+
         final NoteStep noteInfo = this.getClip ().getStep (channel, step, row);
         if (noteInfo == null)
             return;
+        stepInfo.clearChanges ();
+
+        if ((changes & StepStore.CHANGED_MUTED) != 0)
+            noteInfo.setIsMuted (stepInfo.isMuted ());
+        if ((changes & StepStore.CHANGED_DURATION) != 0)
+            noteInfo.setDuration (stepInfo.getDuration ());
+        if ((changes & StepStore.CHANGED_VELOCITY) != 0)
+            noteInfo.setVelocity (stepInfo.getVelocity ());
+        if ((changes & StepStore.CHANGED_VELOCITY_SPREAD) != 0)
+            noteInfo.setVelocitySpread (stepInfo.getVelocitySpread ());
+        if ((changes & StepStore.CHANGED_RELEASE_VELOCITY) != 0)
+            noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
+        if ((changes & StepStore.CHANGED_PRESSURE) != 0)
+            noteInfo.setPressure (stepInfo.getPressure ());
+        if ((changes & StepStore.CHANGED_TIMBRE) != 0)
+            noteInfo.setTimbre (stepInfo.getTimbre ());
+        if ((changes & StepStore.CHANGED_PAN) != 0)
+            noteInfo.setPan (stepInfo.getPan ());
+        if ((changes & StepStore.CHANGED_TRANSPOSE) != 0)
+            noteInfo.setTranspose (stepInfo.getTranspose ());
+        if ((changes & StepStore.CHANGED_GAIN) != 0)
+            noteInfo.setGain (stepInfo.getGain ());
+
+        if ((changes & StepStore.CHANGED_CHANCE_ENABLED) != 0)
+            noteInfo.setIsChanceEnabled (stepInfo.isChanceEnabled ());
+        if ((changes & StepStore.CHANGED_CHANCE) != 0)
+            noteInfo.setChance (stepInfo.getChance ());
+
+        if ((changes & StepStore.CHANGED_OCCURRENCE_ENABLED) != 0)
+            noteInfo.setIsOccurrenceEnabled (stepInfo.isOccurrenceEnabled ());
+        final NoteOccurrenceType occurrence = stepInfo.getOccurrence ();
+        if ((changes & StepStore.CHANGED_OCCURRENCE) != 0 && occurrence != null)
+            noteInfo.setOccurrence (NoteOccurrence.valueOf (occurrence.name ()));
+
+        if ((changes & StepStore.CHANGED_RECURRENCE_ENABLED) != 0)
+            noteInfo.setIsRecurrenceEnabled (stepInfo.isRecurrenceEnabled ());
+        if ((changes & StepStore.CHANGED_RECURRENCE) != 0)
+        {
+            final int recurrenceLength = Math.max (1, stepInfo.getRecurrenceLength ());
+            noteInfo.setRecurrence (recurrenceLength, stepInfo.getRecurrenceMask ());
+        }
 
-        final IStepInfo stepInfo = this.getStep (channel, step, row);
-        noteInfo.setIsMuted (stepInfo.isMuted ());
-        noteInfo.setDuration (stepInfo.getDuration ());
-        noteInfo.setVelocity (stepInfo.getVelocity ());
-        noteInfo.setVelocitySpread (stepInfo.getVelocitySpread ());
-        noteInfo.setReleaseVelocity (stepInfo.getReleaseVelocity ());
-        noteInfo.setPressure (stepInfo.getPressure ());
-        noteInfo.setTimbre (stepInfo.getTimbre ());
-        noteInfo.setPan (stepInfo.getPan ());
-        noteInfo.setTranspose (stepInfo.getTranspose ());
-        noteInfo.setGain (stepInfo.getGain ());
-
-        noteInfo.setIsChanceEnabled (stepInfo.isChanceEnabled ());
-        noteInfo.setChance (stepInfo.getChance ());
-
-        noteInfo.setIsOccurrenceEnabled (stepInfo.isOccurrenceEnabled ());
-        noteInfo.setOccurrence (NoteOccurrence.valueOf (stepInfo.getOccurrence ().name ()));
-
-        noteInfo.setIsRecurrenceEnabled (stepInfo.isRecurrenceEnabled ());
-        final int recurrenceLength = Math.max (1, stepInfo.getRecurrenceLength ());
-        noteInfo.setRecurrence (recurrenceLength, stepInfo.getRecurrenceMask ());
-
-        noteInfo.setIsRepeatEnabled (stepInfo.isRepeatEnabled ());
-        noteInfo.setRepeatCount (stepInfo.getRepeatCount ());
-        noteInfo.setRepeatCurve (stepInfo.getRepeatCurve ());
-        noteInfo.setRepeatVelocityCurve (stepInfo.getRepeatVelocityCurve ());
-        noteInfo.setRepeatVelocityEnd (stepInfo.getRepeatVelocityEnd ());
+        if ((changes & StepStore.CHANGED_REPEAT_ENABLED) != 0)
+            noteInfo.setIsRepeatEnabled (stepInfo.isRepeatEnabled ());
+        if ((changes & StepStore.CHANGED_REPEAT_COUNT) != 0)
+            noteInfo.setRepeatCount (stepInfo.getRepeatCount ());
+        if ((changes & StepStore.CHANGED_REPEAT_CURVE) != 0)
+            noteInfo.setRepeatCurve (stepInfo.getRepeatCurve ());
+        if ((changes & StepStore.CHANGED_REPEAT_VELOCITY_CURVE) != 0)
+            noteInfo.setRepeatVelocityCurve (stepInfo.getRepeatVelocityCurve ());
+        if ((changes & StepStore.CHANGED_REPEAT_VELOCITY_END) != 0)
+            noteInfo.setRepeatVelocityEnd (stepInfo.getRepeatVelocityEnd ());
     }
 
 
@@ -1194,39 +1217,20 @@ public class CursorClipImpl implements INoteClip
 
 
     /**
-     * Get the step at the given position. If the position still contains the Empty Step Info object
-     * an updatable one is created.
+     * Get an updatable view on the step at the given position. If the position is outside of the
+     * range of the clip the updates are discarded.
      *
      * @param channel The MIDI channel
      * @param step The step
      * @param row The row
      * @return The updatable step info
      */
-    private StepInfoImpl getUpdateableStep (final int channel, final int step, final int row)
+    private StepView getUpdateableStep (final int channel, final int step, final int row)
     {
-        final IStepInfo [] [] [] stepInfos = this.getStepInfos ();
-        synchronized (stepInfos)
-        {
-            try
-            {
-                // Lazily create an updatable object and keep it
-                if (stepInfos[channel][step] == null)
-                    stepInfos[channel][step] = new IStepInfo [this.numRows];
-                if (row >= this.numRows)
-                {
-                    this.host.errorln ("Requested row (" + row + " is outside of the range of the number of rows (" + this.numRows + ").");
-                    return new StepInfoImpl ();
-                }
-                if (stepInfos[channel][step][row] == null)
-                    stepInfos[channel][step][row] = new StepInfoImpl ();
-                return (StepInfoImpl) stepInfos[channel][step][row];
-            }
-            catch (final ArrayIndexOutOfBoundsException ex)
-            {
-                this.host.errorln (ex.getLocalizedMessage ());
-                return new StepInfoImpl ();
-            }
-        }
+        final StepStore stepInfos = this.getStepInfos ();
+        if (!stepInfos.contains (channel, step, row))
+            this.host.errorln ("Requested step (" + channel + ", " + step + ", " + row + ") is outside of the range of the clip.");
+        return stepInfos.getUpdateableStep (channel, step, row);
     }
 
 
@@ -1246,7 +1250,7 @@ public class CursorClipImpl implements INoteClip
      *
      * @return The step information
      */
-    private IStepInfo [] [] [] getStepInfos ()
+    private StepStore getStepInfos ()
     {
         // Note: Keep this in a function in case the issue with arranger clips gets ever fixed
         return this.launcherData;
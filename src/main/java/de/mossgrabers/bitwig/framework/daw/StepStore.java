@@ -0,0 +1,966 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.daw;
+
+import de.mossgrabers.framework.daw.DefaultStepInfo;
+import de.mossgrabers.framework.daw.IStepInfo;
+import de.mossgrabers.framework.daw.NoteOccurrenceType;
+import de.mossgrabers.framework.daw.StepState;
+import de.mossgrabers.framework.daw.constants.Resolution;
+import de.mossgrabers.framework.daw.data.empty.EmptyStepInfo;
+
+import com.bitwig.extension.controller.api.NoteStep;
+
+import java.util.BitSet;
+
+
+/**
+ * Stores the note data of all steps of a clip. Instead of one object per step the data is kept in
+ * flat primitive arrays, one per property, indexed by the step and row. The arrays of a MIDI
+ * channel are created when the first step of the channel is updated. Steps are accessed through
+ * light-weight views which read and write the arrays directly. The view of a step is created when
+ * the step is updated the first time and is returned for all further requests, therefore reading
+ * steps (e.g. drawing the sequencer grid) does not create objects and references to a step stay
+ * valid.<br>
+ * <br>
+ * Reading the data does not lock. Updates happen on the controller thread, only the creation of
+ * the arrays of a channel and the index of rows with data are synchronized.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class StepStore
+{
+    private static final StepState []          STATES                        = StepState.values ();
+    private static final NoteOccurrenceType [] OCCURRENCES                   = NoteOccurrenceType.values ();
+
+    private static final int                   FLAG_MUTED                    = 0x01;
+    private static final int                   FLAG_CHANCE                   = 0x02;
+    private static final int                   FLAG_OCCURRENCE               = 0x04;
+    private static final int                   FLAG_RECURRENCE               = 0x08;
+    private static final int                   FLAG_REPEAT                   = 0x10;
+
+    /** Flags for the properties of a step which were changed, see StepView#getChanges. */
+    static final int                           CHANGED_MUTED                 = 0x1;
+    static final int                           CHANGED_DURATION              = 0x2;
+    static final int                           CHANGED_VELOCITY              = 0x4;
+    static final int                           CHANGED_VELOCITY_SPREAD       = 0x8;
+    static final int                           CHANGED_RELEASE_VELOCITY      = 0x10;
+    static final int                           CHANGED_PRESSURE              = 0x20;
+    static final int                           CHANGED_TIMBRE                = 0x40;
+    static final int                           CHANGED_PAN                   = 0x80;
+    static final int                           CHANGED_TRANSPOSE             = 0x100;
+    static final int                           CHANGED_GAIN                  = 0x200;
+    static final int                           CHANGED_CHANCE_ENABLED        = 0x400;
+    static final int                           CHANGED_CHANCE                = 0x800;
+    static final int                           CHANGED_OCCURRENCE_ENABLED    = 0x1000;
+    static final int                           CHANGED_OCCURRENCE            = 0x2000;
+    static final int                           CHANGED_RECURRENCE_ENABLED    = 0x4000;
+    static final int                           CHANGED_RECURRENCE            = 0x8000;
+    static final int                           CHANGED_REPEAT_ENABLED        = 0x10000;
+    static final int                           CHANGED_REPEAT_COUNT          = 0x20000;
+    static final int                           CHANGED_REPEAT_CURVE          = 0x40000;
+    static final int                           CHANGED_REPEAT_VELOCITY_CURVE = 0x80000;
+    static final int                           CHANGED_REPEAT_VELOCITY_END   = 0x100000;
+
+    private final int                          numSteps;
+    private final int                          numRows;
+    private final Block []                     blocks                        = new Block [16];
+    /** Takes the updates of steps outside of the stored range. */
+    private final StepView                     scratch                       = new StepView (this, new Block (1), -1, 0, 0);
+
+    /** The number of steps with data per channel and row. */
+    private final int [] []                    rowStepCounts;
+    /** The rows which contain at least one step with data per channel. */
+    private final BitSet []                    rowsWithData;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps
+     * @param numRows The number of rows
+     */
+    public StepStore (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+
+        this.rowStepCounts = new int [16] [numRows];
+        this.rowsWithData = new BitSet [16];
+        for (int channel = 0; channel < 16; channel++)
+            this.rowsWithData[channel] = new BitSet (numRows);
+    }
+
+
+    /**
+     * Check if the position is inside of the stored range.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return True if the position is inside of the range
+     */
+    public boolean contains (final int channel, final int step, final int row)
+    {
+        return channel >= 0 && channel < 16 && step >= 0 && step < this.numSteps && row >= 0 && row < this.numRows;
+    }
+
+
+    /**
+     * Get a view on the data of a step. Does not lock.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return The step data or the empty step info if the step was never updated or is outside of
+     *         the range
+     */
+    public IStepInfo getStep (final int channel, final int step, final int row)
+    {
+        if (!this.contains (channel, step, row))
+            return EmptyStepInfo.INSTANCE;
+        final Block block = this.blocks[channel];
+        if (block == null)
+            return EmptyStepInfo.INSTANCE;
+        // There is no view if the step was never updated
+        final StepView view = block.views[step * this.numRows + row];
+        return view == null ? EmptyStepInfo.INSTANCE : view;
+    }
+
+
+    /**
+     * Get an updatable view on the data of a step. If the step is outside of the range the updates
+     * are discarded.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @param row The row
+     * @return The updatable step
+     */
+    public StepView getUpdateableStep (final int channel, final int step, final int row)
+    {
+        if (!this.contains (channel, step, row))
+            return this.scratch;
+
+        Block block = this.blocks[channel];
+        if (block == null)
+        {
+            synchronized (this.blocks)
+            {
+                block = this.blocks[channel];
+                if (block == null)
+                {
+                    block = new Block (this.numSteps * this.numRows);
+                    this.blocks[channel] = block;
+                }
+            }
+        }
+
+        final int index = step * this.numRows + row;
+        StepView view = block.views[index];
+        if (view == null)
+        {
+            block.durations[index] = Resolution.RES_1_16.getValue ();
+            view = new StepView (this, block, channel, row, index);
+            block.views[index] = view;
+        }
+        return view;
+    }
+
+
+    /**
+     * Get the highest row of a step which contains data. Does not lock.
+     *
+     * @param channel The MIDI channel
+     * @param step The step
+     * @return The row or -1 if the step contains no data
+     */
+    public int getHighestRow (final int channel, final int step)
+    {
+        if (!this.contains (channel, step, 0))
+            return -1;
+        final Block block = this.blocks[channel];
+        if (block == null)
+            return -1;
+        final int offset = step * this.numRows;
+        for (int row = this.numRows - 1; row >= 0; row--)
+        {
+            if (block.states[offset + row] != 0)
+                return row;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Check if a row contains at least one step with data.
+     *
+     * @param channel The MIDI channel
+     * @param row The row
+     * @return True if there is data
+     */
+    public boolean hasRowData (final int channel, final int row)
+    {
+        synchronized (this.rowsWithData)
+        {
+            return this.rowsWithData[channel].get (row);
+        }
+    }
+
+
+    /**
+     * Get the lowest row which contains data.
+     *
+     * @param channel The MIDI channel
+     * @return The row or -1 if there is no data
+     */
+    public int getLowestRowWithData (final int channel)
+    {
+        synchronized (this.rowsWithData)
+        {
+            return this.rowsWithData[channel].nextSetBit (0);
+        }
+    }
+
+
+    /**
+     * Get the highest row which contains data.
+     *
+     * @param channel The MIDI channel
+     * @return The row or -1 if there is no data
+     */
+    public int getHighestRowWithData (final int channel)
+    {
+        synchronized (this.rowsWithData)
+        {
+            return this.rowsWithData[channel].previousSetBit (this.numRows - 1);
+        }
+    }
+
+
+    /**
+     * Set the state of a step and update the index of the rows with data.
+     *
+     * @param view The view on the step
+     * @param state The new state
+     */
+    void setState (final StepView view, final StepState state)
+    {
+        final byte [] states = view.block.states;
+        final boolean hadData = states[view.index] != 0;
+        states[view.index] = (byte) state.ordinal ();
+        final boolean hasData = state != StepState.OFF;
+        if (hadData == hasData || view.channel < 0)
+            return;
+
+        synchronized (this.rowsWithData)
+        {
+            final int [] counts = this.rowStepCounts[view.channel];
+            if (hasData)
+            {
+                counts[view.row]++;
+                this.rowsWithData[view.channel].set (view.row);
+            }
+            else
+            {
+                counts[view.row]--;
+                if (counts[view.row] <= 0)
+                {
+                    counts[view.row] = 0;
+                    this.rowsWithData[view.channel].clear (view.row);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * The data of all steps of one MIDI channel.
+     */
+    private static final class Block
+    {
+        final StepView [] views;
+        final byte []     states;
+        final byte []     flags;
+        final int []      changes;
+        final byte []     occurrences;
+        final byte []     recurrenceLengths;
+        final short []    recurrenceMasks;
+        final byte []     repeatCounts;
+        final double []   durations;
+        final double []   velocities;
+        final double []   velocitySpreads;
+        final double []   releaseVelocities;
+        final double []   pressures;
+        final double []   timbres;
+        final double []   pans;
+        final double []   transposes;
+        final double []   gains;
+        final double []   chances;
+        final double []   repeatCurves;
+        final double []   repeatVelocityCurves;
+        final double []   repeatVelocityEnds;
+
+
+        /**
+         * Constructor.
+         *
+         * @param size The number of steps
+         */
+        Block (final int size)
+        {
+            this.views = new StepView [size];
+            this.states = new byte [size];
+            this.flags = new byte [size];
+            this.changes = new int [size];
+            this.occurrences = new byte [size];
+            this.recurrenceLengths = new byte [size];
+            this.recurrenceMasks = new short [size];
+            this.repeatCounts = new byte [size];
+            this.durations = new double [size];
+            this.velocities = new double [size];
+            this.velocitySpreads = new double [size];
+            this.releaseVelocities = new double [size];
+            this.pressures = new double [size];
+            this.timbres = new double [size];
+            this.pans = new double [size];
+            this.transposes = new double [size];
+            this.gains = new double [size];
+            this.chances = new double [size];
+            this.repeatCurves = new double [size];
+            this.repeatVelocityCurves = new double [size];
+            this.repeatVelocityEnds = new double [size];
+        }
+    }
+
+
+    /**
+     * A view on the data of one step. Reads and writes the arrays of the store, therefore it always
+     * reflects the current data. There is only one view per step. Use createCopy to get a snapshot.
+     */
+    static final class StepView implements IStepInfo
+    {
+        private final StepStore store;
+        private final Block     block;
+        private final int       channel;
+        private final int       row;
+        private final int       index;
+
+
+        /**
+         * Constructor.
+         *
+         * @param store The store
+         * @param block The data of the MIDI channel
+         * @param channel The MIDI channel, -1 if the updates are discarded
+         * @param row The row
+         * @param index The index of the step in the data arrays
+         */
+        StepView (final StepStore store, final Block block, final int channel, final int row, final int index)
+        {
+            this.store = store;
+            this.block = block;
+            this.channel = channel;
+            this.row = row;
+            this.index = index;
+        }
+
+
+        /**
+         * Set the given state and update all note data from the Bitwig note step.
+         *
+         * @param noteStep The note step
+         */
+        public void updateData (final NoteStep noteStep)
+        {
+            switch (noteStep.state ())
+            {
+                case NoteOn:
+                    this.setState (StepState.START);
+                    break;
+                case NoteSustain:
+                    this.setState (StepState.CONTINUE);
+                    break;
+                case Empty:
+                    this.setState (StepState.OFF);
+                    break;
+            }
+
+            this.setMuted (noteStep.isMuted ());
+            this.setDuration (noteStep.duration ());
+            this.setVelocity (noteStep.velocity ());
+            this.setReleaseVelocity (noteStep.releaseVelocity ());
+            this.setPressure (noteStep.pressure ());
+            this.setTimbre (noteStep.timbre ());
+            this.setPan (noteStep.pan ());
+            this.setTranspose (noteStep.transpose ());
+            this.setGain (noteStep.gain ());
+
+            this.setIsChanceEnabled (noteStep.isChanceEnabled ());
+            this.setChance (noteStep.chance ());
+
+            this.setIsOccurrenceEnabled (noteStep.isOccurrenceEnabled ());
+            this.setOccurrence (NoteOccurrenceType.lookup (noteStep.occurrence ().name ()));
+
+            this.setIsRecurrenceEnabled (noteStep.isRecurrenceEnabled ());
+            this.setRecurrenceLength (noteStep.recurrenceLength ());
+            this.setRecurrenceMask (noteStep.recurrenceMask ());
+
+            this.setIsRepeatEnabled (noteStep.isRepeatEnabled ());
+            this.setRepeatCount (noteStep.repeatCount ());
+            this.setRepeatCurve (noteStep.repeatCurve ());
+            this.setRepeatVelocityCurve (noteStep.repeatVelocityCurve ());
+            this.setRepeatVelocityEnd (noteStep.repeatVelocityEnd ());
+
+            // The data is now in sync with Bitwig
+            this.clearChanges ();
+        }
+
+
+        /**
+         * Get the properties which were changed since the changes were cleared the last time.
+         *
+         * @return The changes as a combination of the CHANGED_* flags, 0 if nothing has changed
+         */
+        public int getChanges ()
+        {
+            return this.block.changes[this.index];
+        }
+
+
+        /**
+         * Clear the changes, e.g. after they were sent to Bitwig.
+         */
+        public void clearChanges ()
+        {
+            this.block.changes[this.index] = 0;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public StepState getState ()
+        {
+            return STATES[this.block.states[this.index]];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isMuted ()
+        {
+            return this.isFlagSet (FLAG_MUTED);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getDuration ()
+        {
+            return this.block.durations[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getVelocity ()
+        {
+            return this.block.velocities[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getVelocitySpread ()
+        {
+            return this.block.velocitySpreads[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getReleaseVelocity ()
+        {
+            return this.block.releaseVelocities[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getPressure ()
+        {
+            return this.block.pressures[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getTimbre ()
+        {
+            return this.block.timbres[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getPan ()
+        {
+            return this.block.pans[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getTranspose ()
+        {
+            return this.block.transposes[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getGain ()
+        {
+            return this.block.gains[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isChanceEnabled ()
+        {
+            return this.isFlagSet (FLAG_CHANCE);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getChance ()
+        {
+            return this.block.chances[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isOccurrenceEnabled ()
+        {
+            return this.isFlagSet (FLAG_OCCURRENCE);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public NoteOccurrenceType getOccurrence ()
+        {
+            // 0 is used for not set
+            final int occurrence = this.block.occurrences[this.index];
+            return occurrence == 0 ? null : OCCURRENCES[occurrence - 1];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isRecurrenceEnabled ()
+        {
+            return this.isFlagSet (FLAG_RECURRENCE);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRecurrenceLength ()
+        {
+            return this.block.recurrenceLengths[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRecurrenceMask ()
+        {
+            return this.block.recurrenceMasks[this.index] & 0xFFFF;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isRepeatEnabled ()
+        {
+            return this.isFlagSet (FLAG_REPEAT);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRepeatCount ()
+        {
+            return this.block.repeatCounts[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getFormattedRepeatCount ()
+        {
+            final int count = this.getRepeatCount ();
+            if (count == 0)
+                return "Off";
+            if (count < 0)
+                return "1/" + Math.abs (count - 1);
+            return Integer.toString (count + 1);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getRepeatCurve ()
+        {
+            return this.block.repeatCurves[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getRepeatVelocityCurve ()
+        {
+            return this.block.repeatVelocityCurves[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public double getRepeatVelocityEnd ()
+        {
+            return this.block.repeatVelocityEnds[this.index];
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public IStepInfo createCopy ()
+        {
+            final DefaultStepInfo copy = new DefaultStepInfo ();
+            copy.setState (this.getState ());
+            copy.setMuted (this.isMuted ());
+            copy.setDuration (this.getDuration ());
+            copy.setVelocity (this.getVelocity ());
+            copy.setVelocitySpread (this.getVelocitySpread ());
+            copy.setReleaseVelocity (this.getReleaseVelocity ());
+            copy.setPressure (this.getPressure ());
+            copy.setTimbre (this.getTimbre ());
+            copy.setPan (this.getPan ());
+            copy.setTranspose (this.getTranspose ());
+            copy.setGain (this.getGain ());
+            copy.setIsChanceEnabled (this.isChanceEnabled ());
+            copy.setChance (this.getChance ());
+            copy.setIsOccurrenceEnabled (this.isOccurrenceEnabled ());
+            copy.setOccurrence (this.getOccurrence ());
+            copy.setIsRecurrenceEnabled (this.isRecurrenceEnabled ());
+            copy.setRecurrenceLength (this.getRecurrenceLength ());
+            copy.setRecurrenceMask (this.getRecurrenceMask ());
+            copy.setIsRepeatEnabled (this.isRepeatEnabled ());
+            copy.setRepeatCount (this.getRepeatCount ());
+            copy.setRepeatCurve (this.getRepeatCurve ());
+            copy.setRepeatVelocityCurve (this.getRepeatVelocityCurve ());
+            copy.setRepeatVelocityEnd (this.getRepeatVelocityEnd ());
+            return copy;
+        }
+
+
+        /**
+         * Set the state.
+         *
+         * @param state The state
+         */
+        public void setState (final StepState state)
+        {
+            this.store.setState (this, state);
+        }
+
+
+        /**
+         * Set the muted state.
+         *
+         * @param isMuted True to set muted
+         */
+        public void setMuted (final boolean isMuted)
+        {
+            this.setFlag (FLAG_MUTED, isMuted);
+            this.setChanged (CHANGED_MUTED);
+        }
+
+
+        /**
+         * Set the duration.
+         *
+         * @param duration The duration
+         */
+        public void setDuration (final double duration)
+        {
+            this.block.durations[this.index] = duration;
+            this.setChanged (CHANGED_DURATION);
+        }
+
+
+        /**
+         * Set the velocity.
+         *
+         * @param velocity The velocity
+         */
+        public void setVelocity (final double velocity)
+        {
+            this.block.velocities[this.index] = velocity;
+            this.setChanged (CHANGED_VELOCITY);
+        }
+
+
+        /**
+         * Set the velocity spread.
+         *
+         * @param velocitySpread The velocity spread
+         */
+        public void setVelocitySpread (final double velocitySpread)
+        {
+            this.block.velocitySpreads[this.index] = velocitySpread;
+            this.setChanged (CHANGED_VELOCITY_SPREAD);
+        }
+
+
+        /**
+         * Set the release velocity.
+         *
+         * @param releaseVelocity The release velocity
+         */
+        public void setReleaseVelocity (final double releaseVelocity)
+        {
+            this.block.releaseVelocities[this.index] = releaseVelocity;
+            this.setChanged (CHANGED_RELEASE_VELOCITY);
+        }
+
+
+        /**
+         * Set the pressure.
+         *
+         * @param pressure The pressure
+         */
+        public void setPressure (final double pressure)
+        {
+            this.block.pressures[this.index] = pressure;
+            this.setChanged (CHANGED_PRESSURE);
+        }
+
+
+        /**
+         * Set the timbre.
+         *
+         * @param timbre The timbre
+         */
+        public void setTimbre (final double timbre)
+        {
+            this.block.timbres[this.index] = timbre;
+            this.setChanged (CHANGED_TIMBRE);
+        }
+
+
+        /**
+         * Set the panorama.
+         *
+         * @param pan The panorama
+         */
+        public void setPan (final double pan)
+        {
+            this.block.pans[this.index] = pan;
+            this.setChanged (CHANGED_PAN);
+        }
+
+
+        /**
+         * Set the transpose.
+         *
+         * @param transpose The transpose
+         */
+        public void setTranspose (final double transpose)
+        {
+            this.block.transposes[this.index] = transpose;
+            this.setChanged (CHANGED_TRANSPOSE);
+        }
+
+
+        /**
+         * Set the gain.
+         *
+         * @param gain The gain
+         */
+        public void setGain (final double gain)
+        {
+            this.block.gains[this.index] = gain;
+            this.setChanged (CHANGED_GAIN);
+        }
+
+
+        /**
+         * Disable/enable the chance.
+         *
+         * @param isEnabled True to enable
+         */
+        public void setIsChanceEnabled (final boolean isEnabled)
+        {
+            this.setFlag (FLAG_CHANCE, isEnabled);
+            this.setChanged (CHANGED_CHANCE_ENABLED);
+        }
+
+
+        /**
+         * Set the chance.
+         *
+         * @param chance The chance
+         */
+        public void setChance (final double chance)
+        {
+            this.block.chances[this.index] = chance;
+            this.setChanged (CHANGED_CHANCE);
+        }
+
+
+        /**
+         * Disable/enable the occurrence.
+         *
+         * @param isEnabled True to enable
+         */
+        public void setIsOccurrenceEnabled (final boolean isEnabled)
+        {
+            this.setFlag (FLAG_OCCURRENCE, isEnabled);
+            this.setChanged (CHANGED_OCCURRENCE_ENABLED);
+        }
+
+
+        /**
+         * Set the occurrence.
+         *
+         * @param occurrence The occurrence
+         */
+        public void setOccurrence (final NoteOccurrenceType occurrence)
+        {
+            this.block.occurrences[this.index] = (byte) (occurrence == null ? 0 : occurrence.ordinal () + 1);
+            this.setChanged (CHANGED_OCCURRENCE);
+        }
+
+
+        /**
+         * Disable/enable the recurrence.
+         *
+         * @param isEnabled True to enable
+         */
+        public void setIsRecurrenceEnabled (final boolean isEnabled)
+        {
+            this.setFlag (FLAG_RECURRENCE, isEnabled);
+            this.setChanged (CHANGED_RECURRENCE_ENABLED);
+        }
+
+
+        /**
+         * Set the recurrence length.
+         *
+         * @param recurrenceLength The recurrence length
+         */
+        public void setRecurrenceLength (final int recurrenceLength)
+        {
+            this.block.recurrenceLengths[this.index] = (byte) recurrenceLength;
+            this.setChanged (CHANGED_RECURRENCE);
+        }
+
+
+        /**
+         * Set the recurrence mask.
+         *
+         * @param recurrenceMask The recurrence mask
+         */
+        public void setRecurrenceMask (final int recurrenceMask)
+        {
+            this.block.recurrenceMasks[this.index] = (short) recurrenceMask;
+            this.setChanged (CHANGED_RECURRENCE);
+        }
+
+
+        /**
+         * Disable/enable the repeat.
+         *
+         * @param isEnabled True to enable
+         */
+        public void setIsRepeatEnabled (final boolean isEnabled)
+        {
+            this.setFlag (FLAG_REPEAT, isEnabled);
+            this.setChanged (CHANGED_REPEAT_ENABLED);
+        }
+
+
+        /**
+         * Set the repeat count.
+         *
+         * @param repeatCount The repeat count (-127 to 127)
+         */
+        public void setRepeatCount (final int repeatCount)
+        {
+            this.block.repeatCounts[this.index] = (byte) repeatCount;
+            this.setChanged (CHANGED_REPEAT_COUNT);
+        }
+
+
+        /**
+         * Set the repeat curve.
+         *
+         * @param repeatCurve The repeat curve
+         */
+        public void setRepeatCurve (final double repeatCurve)
+        {
+            this.block.repeatCurves[this.index] = repeatCurve;
+            this.setChanged (CHANGED_REPEAT_CURVE);
+        }
+
+
+        /**
+         * Set the repeat velocity curve.
+         *
+         * @param repeatVelocityCurve The repeat velocity curve
+         */
+        public void setRepeatVelocityCurve (final double repeatVelocityCurve)
+        {
+            this.block.repeatVelocityCurves[this.index] = repeatVelocityCurve;
+            this.setChanged (CHANGED_REPEAT_VELOCITY_CURVE);
+        }
+
+
+        /**
+         * Set the repeat velocity end.
+         *
+         * @param repeatVelocityEnd The repeat velocity end
+         */
+        public void setRepeatVelocityEnd (final double repeatVelocityEnd)
+        {
+            this.block.repeatVelocityEnds[this.index] = repeatVelocityEnd;
+            this.setChanged (CHANGED_REPEAT_VELOCITY_END);
+        }
+
+
+        private void setChanged (final int changed)
+        {
+            this.block.changes[this.index] |= changed;
+        }
+
+
+        private boolean isFlagSet (final int flag)
+        {
+            return (this.block.flags[this.index] & flag) != 0;
+        }
+
+
+        private void setFlag (final int flag, final boolean isSet)
+        {
+            final byte [] flags = this.block.flags;
+            flags[this.index] = (byte) (isSet ? flags[this.index] | flag : flags[this.index] & ~flag);
+        }
+    }
+}
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.graphics;
 
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.graphics.IEncoder;
 import de.mossgrabers.framework.graphics.IRenderer;
 
@@ -12,6 +13,7 @@ import com.bitwig.extension.api.graphics.Bitmap;
 import com.bitwig.extension.api.graphics.GraphicsOutput.AntialiasMode;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 
 /**
@@ -41,17 +43,28 @@ public record BitmapImpl (Bitmap bitmap) implements IBitmap
 
     /** {@inheritDoc} */
     @Override
-    public void render (final boolean enableAntialias, final IRenderer renderer)
+    public void render (final boolean enableAntialias, final List<IBounds> areas, final IRenderer renderer)
     {
-        this.bitmap.render (gc -> renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc)));
+        this.bitmap.render (gc -> {
+
+            // Restrict drawing to the union of all areas
+            for (final IBounds area: areas)
+                gc.rectangle (area.left (), area.top (), area.width (), area.height ());
+            gc.clip ();
+
+            renderer.render (new GraphicsContextImpl (enableAntialias ? AntialiasMode.BEST : AntialiasMode.OFF, gc));
+
+            gc.resetClip ();
+
+        });
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void encode (final IEncoder encoder)
+    public void encode (final IEncoder encoder, final List<IBounds> dirtyAreas)
     {
         final ByteBuffer imageBuffer = this.bitmap.getMemoryBlock ().createByteBuffer ();
-        encoder.encode (imageBuffer, this.bitmap.getWidth (), this.bitmap.getHeight ());
+        encoder.encode (imageBuffer, this.bitmap.getWidth (), this.bitmap.getHeight (), dirtyAreas);
     }
 }
@@ -14,7 +14,8 @@ import java.util.function.IntFunction;
 
 
 /**
- * Creates visual states from encoded colors.
+ * Creates visual states from encoded colors. The visual state is calculated once when it is
+ * requested for the first time.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -22,6 +23,7 @@ public class EncodedColorLightState extends InternalHardwareLightState
 {
     private final int                  encodedColorState;
     private final IntFunction<ColorEx> stateToColorFunction;
+    private HardwareLightVisualState   visualState;
 
 
     /**
@@ -41,6 +43,19 @@ public class EncodedColorLightState extends InternalHardwareLightState
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
+    {
+        if (this.visualState == null)
+            this.visualState = this.createVisualState ();
+        return this.visualState;
+    }
+
+
+    /**
+     * Calculate the visual state from the color state.
+     *
+     * @return The visual state
+     */
+    private HardwareLightVisualState createVisualState ()
     {
         if (this.encodedColorState == -1)
             return HardwareLightVisualState.createForColor (Color.blackColor (), Color.whiteColor ());
@@ -46,6 +46,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 {
     private final HostImpl        host;
     private final HardwareSurface hardwareSurface;
+    private final LightStateCache rawColorLightStates = new LightStateCache (8, encodedColor -> new RawColorLightState (ColorEx.decode (encodedColor)));
 
     private int                   lightCounter = 0;
     private final long            startup      = System.currentTimeMillis ();
@@ -85,7 +86,7 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
         final String id = createID (surfaceID, outputID == null ? "LIGHT" + this.lightCounter : outputID.name ());
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new RawColorLightState (supplier.get ());
+        final Supplier<InternalHardwareLightState> valueSupplier = () -> this.rawColorLightStates.get (supplier.get ().encode ());
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final Color c = visualState == null ? Color.blackColor () : visualState.getColor ();
@@ -104,7 +105,9 @@ public class HwSurfaceFactoryImpl implements IHwSurfaceFactory
 
         final MultiStateHardwareLight hardwareLight = this.hardwareSurface.createMultiStateHardwareLight (id);
 
-        final Supplier<InternalHardwareLightState> valueSupplier = () -> new EncodedColorLightState (supplier.getAsInt (), stateToColorFunction);
+        // The colors of the states depend on the light, therefore each light has its own cache
+        final LightStateCache lightStates = new LightStateCache (4, encodedColorState -> new EncodedColorLightState (encodedColorState, stateToColorFunction));
+        final Supplier<InternalHardwareLightState> valueSupplier = () -> lightStates.get (supplier.getAsInt ());
         final Consumer<InternalHardwareLightState> hardwareUpdater = state -> {
             final HardwareLightVisualState visualState = state == null ? null : state.getVisualState ();
             final int encodedColorState = visualState == null ? 0 : supplier.getAsInt ();
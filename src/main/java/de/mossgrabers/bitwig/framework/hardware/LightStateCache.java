@@ -0,0 +1,64 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.bitwig.framework.hardware;
+
+import com.bitwig.extension.controller.api.InternalHardwareLightState;
+
+import java.util.function.IntFunction;
+
+
+/**
+ * A small direct mapped cache for light states, which are identified by an integer (e.g. an
+ * encoded color state or an encoded RGB color). Since the visual state is calculated only once by
+ * each light state, re-using them avoids creating the objects and calculating the colors again on
+ * each flush. If two keys are mapped to the same slot the older state is replaced.<br>
+ * <br>
+ * An instance is not thread safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class LightStateCache
+{
+    private final int []                                  keys;
+    private final InternalHardwareLightState []           states;
+    private final int                                     mask;
+    private final IntFunction<InternalHardwareLightState> stateFactory;
+
+
+    /**
+     * Constructor.
+     *
+     * @param sizeBits The size of the cache is 2^sizeBits
+     * @param stateFactory Creates a light state for a key, if it is not cached
+     */
+    LightStateCache (final int sizeBits, final IntFunction<InternalHardwareLightState> stateFactory)
+    {
+        final int size = 1 << sizeBits;
+        this.keys = new int [size];
+        this.states = new InternalHardwareLightState [size];
+        this.mask = size - 1;
+        this.stateFactory = stateFactory;
+    }
+
+
+    /**
+     * Get the light state for the given key. It is created if it is not cached.
+     *
+     * @param key The key
+     * @return The light state
+     */
+    InternalHardwareLightState get (final int key)
+    {
+        final int index = (key ^ key >>> 8 ^ key >>> 16) & this.mask;
+        InternalHardwareLightState state = this.states[index];
+        if (state == null || this.keys[index] != key)
+        {
+            state = this.stateFactory.apply (key);
+            this.keys[index] = key;
+            this.states[index] = state;
+        }
+        return state;
+    }
+}
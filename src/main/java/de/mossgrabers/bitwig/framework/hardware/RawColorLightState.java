@@ -12,13 +12,15 @@ import com.bitwig.extension.controller.api.InternalHardwareLightState;
 
 
 /**
- * Creates visual states from raw colors.
+ * Creates visual states from raw colors. The visual state is calculated once when it is requested
+ * for the first time.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class RawColorLightState extends InternalHardwareLightState
 {
-    private final ColorEx colorState;
+    private final ColorEx            colorState;
+    private HardwareLightVisualState visualState;
 
 
     /**
@@ -35,6 +37,19 @@ public class RawColorLightState extends InternalHardwareLightState
     /** {@inheritDoc}} */
     @Override
     public HardwareLightVisualState getVisualState ()
+    {
+        if (this.visualState == null)
+            this.visualState = this.createVisualState ();
+        return this.visualState;
+    }
+
+
+    /**
+     * Calculate the visual state from the color state.
+     *
+     * @return The visual state
+     */
+    private HardwareLightVisualState createVisualState ()
     {
         final Color color = Color.fromRGB (this.colorState.getRed (), this.colorState.getGreen (), this.colorState.getBlue ());
         final ColorEx contrastColorEx = ColorEx.calcContrastColor (this.colorState);
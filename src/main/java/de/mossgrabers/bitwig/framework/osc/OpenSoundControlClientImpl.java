@@ -48,33 +48,10 @@ public class OpenSoundControlClientImpl implements IOpenSoundControlClient
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
+        // Splitting into bundles which fit into an UDP message and pacing is done by the caller
         this.connection.startBundle ();
         for (final IOpenSoundControlMessage message: messages)
-        {
             this.sendMessage (message);
-            pos++;
-            // We cannot get the exact size of the message due to the API, so let's try to stay
-            // below 64K, which is the maximum of an UDP message
-            if (pos > 100)
-            {
-                pos = 0;
-                this.connection.endBundle ();
-
-                // Ugly hack, but we need to slow down a bit otherwise clients like Open Stage
-                // Control cannot keep up...
-                try
-                {
-                    Thread.sleep (10);
-                }
-                catch (final InterruptedException ex)
-                {
-                    Thread.currentThread ().interrupt ();
-                }
-
-                this.connection.startBundle ();
-            }
-        }
         this.connection.endBundle ();
     }
 }
@@ -1330,6 +1330,8 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
             this.notifyObservers (DEBUG_MODE);
         });
 
+        this.activateFlushProfilingSetting (settingsUI);
+
         if (!this.isPush2)
             return;
 
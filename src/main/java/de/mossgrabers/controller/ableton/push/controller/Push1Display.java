@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.Pair;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -48,15 +49,11 @@ public class Push1Display extends AbstractTextDisplay
     /** Push character for the division sign. */
     public static final String     DIVISION      = Character.toString ((char) 24);
 
-    private static final String [] SYSEX_MESSAGE =
-    {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
-    };
+    private static final String    SYSEX_HEADER  = "F0 47 7F 15";
+    private static final int       SYSEX_LINE_1  = 0x18;
 
     private final int              maxParameterValue;
+    private final SysexBuilder     sysexBuilder  = new SysexBuilder (SYSEX_HEADER);
 
 
     /**
@@ -88,7 +85,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = column % 2 == 0 ? "         " : "        ";
+        this.setCellContent (row * this.noOfCells + column, column % 2 == 0 ? "         " : "        ");
         return this;
     }
 
@@ -100,12 +97,12 @@ public class Push1Display extends AbstractTextDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8, ' ');
+            this.setCellContent (row * 8 + cell, value.substring (0, 9));
+            this.setCellContent (row * 8 + cell + 1, StringUtils.pad (value.substring (9), 8, ' '));
         }
         else
         {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9, ' ');
+            this.setCellContent (row * 8 + cell, StringUtils.pad (value, 9, ' '));
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -124,7 +121,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public ITextDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = StringUtils.pad (value, 8, ' ') + (cell % 2 == 0 ? " " : "");
+        this.setCellContent (row * 8 + cell, StringUtils.pad (value, 8, ' ') + (cell % 2 == 0 ? " " : ""));
         return this;
     }
 
@@ -153,7 +150,7 @@ public class Push1Display extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        this.output.sendSysex (Push1Display.SYSEX_MESSAGE[row] + StringUtils.asciiToHex (text) + "F7");
+        this.sysexBuilder.add (SYSEX_LINE_1 + row).add (0x00).add (0x45).add (0x00).addAscii (text).send (this.output);
     }
 
 
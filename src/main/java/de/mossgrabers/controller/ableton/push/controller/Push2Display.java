@@ -9,7 +9,9 @@ import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -85,9 +87,9 @@ public class Push2Display extends AbstractGraphicDisplay
 
     /** {@inheritDoc} */
     @Override
-    protected void send (final IBitmap image)
+    protected void send (final IBitmap image, final List<IBounds> dirtyAreas)
     {
         if (!this.isShutdown && this.usbDisplay != null)
-            this.usbDisplay.send (image);
+            this.usbDisplay.send (image, dirtyAreas);
     }
 }
\ No newline at end of file
@@ -668,7 +668,7 @@ public class PushColorManager extends ColorManager
                         color = PUSH2_COLOR2_BLACK;
                     else if (colorIndex == 8)
                         color = PUSH2_COLOR2_GREY_LO;
-                    return this.colorByIndex.get (Integer.valueOf (color));
+                    return this.colorByIndex[color];
 
                 default:
                     // Fall through
@@ -680,20 +680,20 @@ public class PushColorManager extends ColorManager
             switch (buttonID)
             {
                 case PLAY:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_GREEN_HI));
+                    return this.colorByIndex[colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_GREEN_HI];
                 case AUTOMATION, RECORD:
                     int col = PUSH2_COLOR2_AMBER;
                     if (colorIndex == 1)
                         col = PUSH2_COLOR2_GREY_LO;
                     else if (colorIndex == 4)
                         col = PUSH2_COLOR2_RED_HI;
-                    return this.colorByIndex.get (Integer.valueOf (col));
+                    return this.colorByIndex[col];
                 case MUTE:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_AMBER_LO));
+                    return this.colorByIndex[colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_AMBER_LO];
                 case SOLO:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_YELLOW));
+                    return this.colorByIndex[colorIndex == 1 ? PUSH2_COLOR2_GREY_LO : PUSH2_COLOR2_YELLOW];
                 case STOP_CLIP:
-                    return this.colorByIndex.get (Integer.valueOf (colorIndex == 1 ? PUSH2_COLOR2_RED_LO : PUSH2_COLOR2_RED_HI));
+                    return this.colorByIndex[colorIndex == 1 ? PUSH2_COLOR2_RED_LO : PUSH2_COLOR2_RED_HI];
 
                 case NEW:
                 case DUPLICATE:
@@ -734,7 +734,7 @@ public class PushColorManager extends ColorManager
                         color = PUSH2_COLOR_BLACK;
                     else if (colorIndex == 1)
                         color = PUSH2_COLOR2_GREY_LO;
-                    return this.colorByIndex.get (Integer.valueOf (color));
+                    return this.colorByIndex[color];
 
                 default:
                     // Fall through
@@ -742,7 +742,7 @@ public class PushColorManager extends ColorManager
             }
         }
 
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        final ColorEx color = colorIndex < NUM_COLORS ? this.colorByIndex[colorIndex] : null;
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
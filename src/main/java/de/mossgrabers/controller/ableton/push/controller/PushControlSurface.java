@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.List;
@@ -446,6 +447,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     };
 
     private final PaletteEntry []  colorPalette                  = new PaletteEntry [128];
+    private final SysexBuilder     push2SysexBuilder             = new SysexBuilder ("F0 00 21 1D 01 01");
     private boolean                colorPaletteHasUpdate         = false;
 
     private int                    ribbonMode                    = -1;
@@ -793,7 +795,10 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPush2SysEx (final int [] parameters)
     {
-        this.output.sendSysex ("F0 00 21 1D 01 01 " + StringUtils.toHexStr (parameters) + "F7");
+        synchronized (this.push2SysexBuilder)
+        {
+            this.push2SysexBuilder.add (parameters).send (this.output);
+        }
     }
 
 
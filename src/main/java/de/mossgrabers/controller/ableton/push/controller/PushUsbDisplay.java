@@ -7,11 +7,17 @@ package de.mossgrabers.controller.ableton.push.controller;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +33,9 @@ public class PushUsbDisplay
     /** The size of the display content. */
     private static final int               DATA_SZ          = 20 * 0x4000;
 
+    /** The number of pixels of one line including the padding. */
+    private static final int               LINE_SIZE        = 1024;
+
     private static final int               TIMEOUT          = 1000;
 
     private static final byte []           DISPLAY_HEADER   =
@@ -53,8 +62,13 @@ public class PushUsbDisplay
     private IUsbEndpoint                   usbEndpoint;
     private final IHost                    host;
     private final IMemoryBlock             headerBlock;
-    private final IMemoryBlock             imageBlock;
-    private final byte []                  byteStore        = new byte [DATA_SZ];
+    private final ImageBlock []            imageBlocks      = new ImageBlock [2];
+    private int                            backBlockIndex   = 0;
+    private int                            frontBlockIndex  = 1;
+    private final List<IBounds>            previousAreas    = new ArrayList<> ();
+    private final List<IBounds>            encodeAreas      = new ArrayList<> ();
+    private final int []                   sourceLine       = new int [LINE_SIZE];
+    private final short []                 targetLine       = new short [LINE_SIZE];
 
     private final Object                   sendLock         = new Object ();
     private final Object                   bufferUpdateLock = new Object ();
@@ -84,7 +98,16 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        // The padding at the end of each line is never written, therefore clear it once
+        final byte [] empty = new byte [DATA_SZ];
+        for (int i = 0; i < this.imageBlocks.length; i++)
+        {
+            final IMemoryBlock block = host.createMemoryBlock (DATA_SZ);
+            final ByteBuffer buffer = block.createByteBuffer ();
+            buffer.put (empty);
+            this.imageBlocks[i] = new ImageBlock (block, buffer.order (ByteOrder.LITTLE_ENDIAN).asShortBuffer ());
+        }
     }
 
 
@@ -92,43 +115,54 @@ public class PushUsbDisplay
      * Send the buffered image to the screen.
      *
      * @param image An image of size 960 x 160 pixel
+     * @param dirtyAreas The areas of the image which changed since the last call
      */
-    public void send (final IBitmap image)
+    public void send (final IBitmap image, final List<IBounds> dirtyAreas)
     {
-        // Copy to the buffer
-        synchronized (this.bufferUpdateLock)
+        // The back buffer missed the changes which went into the front buffer with the last call
+        this.encodeAreas.clear ();
+        this.encodeAreas.addAll (this.previousAreas);
+        this.encodeAreas.addAll (dirtyAreas);
+        this.previousAreas.clear ();
+        this.previousAreas.addAll (dirtyAreas);
+
+        final ImageBlock backBlock = this.imageBlocks[this.backBlockIndex];
+
+        // Convert the changed areas directly into the back buffer. Blocks while the USB transfer
+        // of the same buffer is still running
+        synchronized (backBlock)
         {
-            image.encode ( (imageBuffer, width, height) -> {
+            image.encode ( (imageBuffer, width, height, areas) -> {
 
-                int counter = 0;
-                final int padding = (DATA_SZ - height * width * 2) / height;
+                final IntBuffer pixels = imageBuffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+                final ShortBuffer target = backBlock.pixels ();
 
-                for (int y = 0; y < height; y++)
+                for (final IBounds area: areas)
                 {
-                    for (int x = 0; x < width; x++)
-                    {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-
-                        this.byteStore[counter] = (byte) (pixel & 0x00FF);
-                        this.byteStore[counter + 1] = (byte) ((pixel & 0xFF00) >> 8);
-
-                        counter += 2;
-                    }
-
-                    for (int x = 0; x < padding; x++)
+                    final int left = Math.max (0, (int) area.left ());
+                    final int right = Math.min (width, (int) Math.ceil (area.left () + area.width ()));
+                    final int top = Math.max (0, (int) area.top ());
+                    final int bottom = Math.min (height, (int) Math.ceil (area.top () + area.height ()));
+                    final int length = right - left;
+                    if (length <= 0)
+                        continue;
+
+                    for (int y = top; y < bottom; y++)
                     {
-                        this.byteStore[counter] = (byte) 0x00;
-                        counter++;
+                        pixels.get (y * width + left, this.sourceLine, 0, length);
+                        for (int x = 0; x < length; x++)
+                            this.targetLine[x] = sPixelFromARGB (this.sourceLine[x]);
+                        target.put (y * LINE_SIZE + left, this.targetLine, 0, length);
                     }
                 }
 
-                imageBuffer.rewind ();
-            });
+            }, this.encodeAreas);
+        }
+
+        synchronized (this.bufferUpdateLock)
+        {
+            this.backBlockIndex = this.frontBlockIndex;
+            this.frontBlockIndex = 1 - this.frontBlockIndex;
         }
 
         synchronized (this.sendLock)
@@ -141,23 +175,23 @@ public class PushUsbDisplay
 
     private void sendData ()
     {
-        // Copy the data from the buffer to the USB block
+        final ImageBlock frontBlock;
         synchronized (this.bufferUpdateLock)
         {
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
-            buffer.clear ();
-            for (int i = 0; i < DATA_SZ; i++)
-                buffer.put (this.byteStore[i]);
+            frontBlock = this.imageBlocks[this.frontBlockIndex];
         }
 
         // Send the data
-        synchronized (this.sendLock)
+        synchronized (frontBlock)
         {
-            if (this.usbDevice == null || this.usbEndpoint == null)
-                return;
+            synchronized (this.sendLock)
+            {
+                if (this.usbDevice == null || this.usbEndpoint == null)
+                    return;
 
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
+                this.usbEndpoint.send (this.headerBlock, TIMEOUT);
+                this.usbEndpoint.send (frontBlock.block (), TIMEOUT);
+            }
         }
     }
 
@@ -198,13 +232,30 @@ public class PushUsbDisplay
     }
 
 
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    /**
+     * Converts a pixel in ARGB format (read as little endian from the BGRA bytes) into the BGR565
+     * format of the display.
+     *
+     * @param argb The pixel
+     * @return The converted pixel
+     */
+    private static short sPixelFromARGB (final int argb)
+    {
+        final int blue = (argb & 0xF8) >> 3;
+        final int green = (argb & 0xFC00) >> 10;
+        final int red = (argb & 0xF80000) >> 19;
+        return (short) (blue << 11 | green << 5 | red);
+    }
+
+
+    /**
+     * A memory block which receives the converted image.
+     *
+     * @param block The memory block to send via USB
+     * @param pixels The 16-bit pixel view on the memory block
+     */
+    private record ImageBlock (IMemoryBlock block, ShortBuffer pixels)
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        // Intentionally empty
     }
 }
@@ -152,26 +152,8 @@ public class FrameMode extends BaseMode<IItem>
     public FrameMode (final PushControlSurface surface, final IModel model)
     {
         super ("Frame", surface, model);
-    }
-
 
-    /** {@inheritDoc} */
-    @Override
-    public void onActivate ()
-    {
-        super.onActivate ();
-
-        this.setActive (true);
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public void onDeactivate ()
-    {
-        super.onDeactivate ();
-
-        this.setActive (false);
+        this.addObserverInterests (this.model.getArranger (), this.model.getMixer ());
     }
 
 
@@ -426,11 +408,4 @@ public class FrameMode extends BaseMode<IItem>
 
         return -1;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        this.model.getArranger ().enableObservers (enable);
-        this.model.getMixer ().enableObservers (enable);
-    }
 }
@@ -47,6 +47,7 @@ public class GrooveMode extends BaseMode<IItem>
         super (TAG_GROOVE, surface, model);
 
         final IGroove groove = this.model.getGroove ();
+        this.addObserverInterests (groove);
 
         this.params[2] = groove.getParameter (GrooveParameterID.SHUFFLE_AMOUNT);
         this.params[3] = groove.getParameter (GrooveParameterID.SHUFFLE_RATE);
@@ -71,7 +72,7 @@ public class GrooveMode extends BaseMode<IItem>
     {
         super.onActivate ();
 
-        this.setActive (true);
+        this.model.getGroove ().setIndication (true);
     }
 
 
@@ -81,7 +82,7 @@ public class GrooveMode extends BaseMode<IItem>
     {
         super.onDeactivate ();
 
-        this.setActive (false);
+        this.model.getGroove ().setIndication (false);
     }
 
 
@@ -224,12 +225,4 @@ public class GrooveMode extends BaseMode<IItem>
         }
         return AbstractFeatureGroup.BUTTON_COLOR_OFF;
     }
-
-
-    private void setActive (final boolean enable)
-    {
-        final IGroove groove = this.model.getGroove ();
-        groove.enableObservers (enable);
-        groove.setIndication (enable);
-    }
 }
\ No newline at end of file
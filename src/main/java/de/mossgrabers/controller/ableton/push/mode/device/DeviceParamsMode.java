@@ -24,6 +24,7 @@ import de.mossgrabers.framework.daw.data.bank.IDeviceBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.IParameterPageBank;
 import de.mossgrabers.framework.featuregroup.ModeManager;
+import de.mossgrabers.framework.graphics.canvas.component.RetainedParameterComponent;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.parameterprovider.device.BankParameterProvider;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -469,7 +470,11 @@ public class DeviceParamsMode extends BaseMode<IParameter>
             final boolean parameterIsActive = this.isKnobTouched (i);
             final int parameterModulatedValue = valueChanger.toDisplayValue (exists ? param.getModulatedValue () : -1);
 
-            display.addParameterElement (this.hostMenu[i], isTopMenuOn, bottomMenu, bottomMenuIcon, color, isBottomMenuOn, parameterName, parameterValue, parameterValueStr, parameterIsActive, parameterModulatedValue);
+            final RetainedParameterComponent element = display.getRetainedParameterElement (i);
+            element.setMenu (this.hostMenu[i], isTopMenuOn);
+            element.setDeviceFooter (bottomMenu, bottomMenuIcon, color, isBottomMenuOn);
+            element.setParameter (parameterName, parameterValue, parameterModulatedValue, parameterValueStr, parameterIsActive);
+            display.addElement (element);
         }
     }
 
@@ -10,6 +10,7 @@ import de.mossgrabers.controller.ableton.push.controller.PushColorManager;
 import de.mossgrabers.controller.ableton.push.controller.PushControlSurface;
 import de.mossgrabers.controller.ableton.push.mode.BaseMode;
 import de.mossgrabers.framework.controller.ButtonID;
+import de.mossgrabers.framework.controller.display.AbstractGraphicDisplay;
 import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
@@ -22,6 +23,7 @@ import de.mossgrabers.framework.daw.data.bank.ISendBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.featuregroup.ModeManager;
+import de.mossgrabers.framework.graphics.canvas.component.RetainedChannelComponent;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.Pair;
@@ -411,6 +413,7 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
         final ITrackBank tb = this.model.getCurrentTrackBank ();
         final PushConfiguration config = this.surface.getConfiguration ();
         final ICursorTrack cursorTrack = this.model.getCursorTrack ();
+        final int editType = AbstractGraphicDisplay.getChannelEditType (selectedMenu);
         for (int i = 0; i < 8; i++)
         {
             final ITrack t = tb.getItem (i);
@@ -421,7 +424,15 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
             final boolean enableVUMeters = config.isEnableVUMeters ();
             final int vuR = valueChanger.toDisplayValue (enableVUMeters ? t.getVuRight () : 0);
             final int vuL = valueChanger.toDisplayValue (enableVUMeters ? t.getVuLeft () : 0);
-            display.addChannelElement (selectedMenu, topMenu, isTopMenuOn, t.doesExist () ? t.getName (12) : "", this.updateType (t), t.getColor (), t.isSelected (), valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), isVolume && this.isKnobTouched (i) ? t.getVolumeStr (8) : "", valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), isPan && this.isKnobTouched (i) ? t.getPanStr (8) : "", vuL, vuR, t.isMute (), t.isSolo (), t.isRecArm (), t.isActivated (), crossfadeMode, t.isSelected () && cursorTrack.isPinned ());
+            final RetainedChannelComponent element = display.getRetainedChannelElement (i);
+            element.setEditType (editType);
+            element.setMenu (topMenu, isTopMenuOn);
+            element.setFooter (t.doesExist () ? t.getName (12) : "", this.updateType (t), t.getColor (), t.isSelected ());
+            element.setVolume (valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), isVolume && this.isKnobTouched (i) ? t.getVolumeStr (8) : "");
+            element.setPan (valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), isPan && this.isKnobTouched (i) ? t.getPanStr (8) : "");
+            element.setVU (vuL, vuR);
+            element.setStates (t.isMute (), t.isSolo (), t.isRecArm (), t.isActivated (), crossfadeMode, t.isSelected () && cursorTrack.isPinned ());
+            display.addElement (element);
         }
     }
 
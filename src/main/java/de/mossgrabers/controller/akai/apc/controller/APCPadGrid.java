@@ -6,6 +6,7 @@ package de.mossgrabers.controller.akai.apc.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
 
@@ -54,21 +55,11 @@ public class APCPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
         final int n = note - 36;
-
         if (this.isMkII)
-            return new int []
-            {
-                0,
-                n
-            };
-
-        return new int []
-        {
-            n % 8,
-            0x39 - n / 8
-        };
+            return TranslatedNote.create (0, n);
+        return TranslatedNote.create (n % 8, 0x39 - n / 8);
     }
 }
\ No newline at end of file
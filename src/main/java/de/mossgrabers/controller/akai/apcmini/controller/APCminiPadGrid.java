@@ -6,6 +6,7 @@ package de.mossgrabers.controller.akai.apcmini.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
 
@@ -54,12 +55,8 @@ public class APCminiPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
-        return new int []
-        {
-            0,
-            note - 36
-        };
+        return TranslatedNote.create (0, note - 36);
     }
 }
\ No newline at end of file
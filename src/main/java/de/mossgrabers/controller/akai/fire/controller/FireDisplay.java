@@ -10,8 +10,10 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.graphics.ChromaticGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.DefaultGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 
 import java.util.Arrays;
+import java.util.List;
 
 
 /**
@@ -93,11 +95,11 @@ public class FireDisplay extends AbstractGraphicDisplay
 
     /** {@inheritDoc} */
     @Override
-    protected void send (final IBitmap image)
+    protected void send (final IBitmap image, final List<IBounds> dirtyAreas)
     {
         synchronized (this.data)
         {
-            image.encode ( (imageBuffer, width, height) -> {
+            image.encode ( (imageBuffer, width, height, areas) -> {
 
                 // Unwind 128x64 arrangement into a 1024x8 arrangement of pixels
                 for (int stripe = 0; stripe < 8; stripe++)
@@ -124,7 +126,7 @@ public class FireDisplay extends AbstractGraphicDisplay
                         }
                     }
                 }
-            });
+            }, dirtyAreas);
 
             // Convert to system exclusive and send to device
             for (int stripe = 0; stripe < 8; stripe++)
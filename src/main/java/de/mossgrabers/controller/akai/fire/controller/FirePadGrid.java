@@ -8,13 +8,12 @@ import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 
 
 /**
@@ -41,8 +40,9 @@ public class FirePadGrid extends BlinkingPadGrid
             INVERSE_TRANSLATE_16x4_MATRIX.put (Integer.valueOf (TRANSLATE_16x4_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private double padBrightness = 1.0;
-    private double padSaturation = 1.0;
+    private final SysexBuilder sysexBuilder  = new SysexBuilder ("F0 47 7F 43 65");
+    private double             padBrightness = 1.0;
+    private double             padSaturation = 1.0;
 
 
     /**
@@ -68,13 +68,9 @@ public class FirePadGrid extends BlinkingPadGrid
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
-        return new int []
-        {
-            0,
-            TRANSLATE_16x4_MATRIX[note - 36]
-        };
+        return TranslatedNote.create (0, TRANSLATE_16x4_MATRIX[note - 36]);
     }
 
 
@@ -82,32 +78,27 @@ public class FirePadGrid extends BlinkingPadGrid
     @Override
     protected void updateController ()
     {
-        final StringBuilder sb = new StringBuilder ();
+        // Placeholders for the length of the data
+        this.sysexBuilder.add (0).add (0);
 
-        for (final Entry<Integer, LightInfo> e: this.padInfos.entrySet ())
+        for (int note = this.padInfos.next (0); note >= 0; note = this.padInfos.next (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
+            final int colorIndex = this.padInfos.getColor (note);
             final int index = note - 54;
             // Note: The exact PADx is not needed for getting the color
-            ColorEx color = this.colorManager.getColor (info.getColor (), ButtonID.PAD1);
+            ColorEx color = this.colorManager.getColor (colorIndex, ButtonID.PAD1);
             // Do not scale black!
             if (!color.equals (ColorEx.BLACK))
                 color = color.scale (this.padBrightness, this.padSaturation);
-            final int [] c = color.toIntRGB127 ();
-            sb.append (StringUtils.toHexStr (index)).append (' ');
-            sb.append (StringUtils.toHexStr (c[0])).append (' ');
-            sb.append (StringUtils.toHexStr (c[1])).append (' ');
-            sb.append (StringUtils.toHexStr (c[2])).append (' ');
+            this.sysexBuilder.add (index).add (color.toIntRGB127 ());
 
             // Hardware does not support blinking, therefore needs to be implemented the hard
             // way
-            final Integer key = Integer.valueOf (index);
-            if (info.getBlinkColor () > 0)
-                this.blinkingLights.put (key, info);
+            final int blinkColor = this.padInfos.getBlinkColor (note);
+            if (blinkColor > 0)
+                this.blinkingLights.set (index, colorIndex, blinkColor, this.padInfos.isFast (note));
             else
-                this.blinkingLights.remove (key);
+                this.blinkingLights.remove (index);
         }
 
         int length = this.padInfos.size ();
@@ -117,29 +108,23 @@ public class FirePadGrid extends BlinkingPadGrid
         {
             length += this.blinkingLights.size ();
 
-            for (final Entry<Integer, LightInfo> value: this.blinkingLights.entrySet ())
+            for (int index = this.blinkingLights.next (0); index >= 0; index = this.blinkingLights.next (index + 1))
             {
-                final LightInfo info = value.getValue ();
-
-                final int colorIndex = this.isBlink ? info.getBlinkColor () : info.getColor ();
+                final int colorIndex = this.isBlink ? this.blinkingLights.getBlinkColor (index) : this.blinkingLights.getColor (index);
                 final int [] c = this.colorManager.getColor (colorIndex, ButtonID.PAD1).scale (this.padBrightness, this.padSaturation).toIntRGB127 ();
-                sb.append (StringUtils.toHexStr (value.getKey ().intValue ())).append (' ');
-                sb.append (StringUtils.toHexStr (c[0])).append (' ');
-                sb.append (StringUtils.toHexStr (c[1])).append (' ');
-                sb.append (StringUtils.toHexStr (c[2])).append (' ');
+                this.sysexBuilder.add (index).add (c);
             }
         }
 
         // No update necessary
-        if (sb.length () == 0)
+        if (length == 0)
+        {
+            this.sysexBuilder.reset ();
             return;
+        }
 
         length *= 4;
-        final StringBuilder msg = new StringBuilder ("F0 47 7F 43 65 ");
-        msg.append (StringUtils.toHexStr (length / 128)).append (' ');
-        msg.append (StringUtils.toHexStr (length % 128)).append (' ');
-
-        this.output.sendSysex (msg.append (sb).append ("F7").toString ());
+        this.sysexBuilder.set (5, length / 128).set (6, length % 128).send (this.output);
     }
 
 
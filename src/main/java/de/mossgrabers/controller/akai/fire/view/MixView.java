@@ -49,7 +49,7 @@ public class MixView extends AbstractView<FireControlSurface, FireConfiguration>
             if (track.doesExist ())
             {
                 // Select
-                final int colorIndex = this.colorManager.getColorIndex (DAWColor.getColorID (track.getColor ()));
+                final int colorIndex = this.colorManager.getColorIndex (DAWColor.getClosestColor (track.getColor ()));
                 if (track.isSelected ())
                     padGrid.lightEx (i, 0, colorIndex, FireColorManager.FIRE_COLOR_WHITE, false);
                 else
@@ -6,8 +6,9 @@ package de.mossgrabers.controller.arturia.beatstep.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -17,6 +18,9 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class BeatstepPadGrid extends PadGridImpl
 {
+    private final SysexBuilder sysexBuilder = new SysexBuilder (BeatstepControlSurface.SYSEX_HEADER);
+
+
     /**
      * Constructor.
      *
@@ -55,21 +59,14 @@ public class BeatstepPadGrid extends PadGridImpl
     {
         final int n = note - 36;
         final int pad = n < this.cols ? BeatstepControlSurface.BEATSTEP_PAD_9 + n : BeatstepControlSurface.BEATSTEP_PAD_1 + n - this.cols;
-        final String data = BeatstepControlSurface.SYSEX_HEADER + StringUtils.toHexStr (new int []
-        {
-            pad,
-            color
-        }) + BeatstepControlSurface.SYSEX_END;
-        this.output.sendSysex (data);
+        this.sysexBuilder.add (pad).add (color).send (this.output);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
-        final int [] translate = super.translateToController (note);
-        translate[0] = 2;
-        return translate;
+        return TranslatedNote.create (2, note);
     }
 }
\ No newline at end of file
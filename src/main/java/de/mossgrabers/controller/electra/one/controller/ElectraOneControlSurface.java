@@ -12,15 +12,10 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.StringWriter;
 import java.util.Arrays;
 
 
@@ -90,6 +85,8 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
         0x00
     };
 
+    private static final char []  HEX_DIGITS                  = "0123456789ABCDEF".toCharArray ();
+
     private static final String   LOG_PAGE_CHANGE             = "displayPage: page shown: page=";
     private static final Modes [] MODES                       =
     {
@@ -99,6 +96,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
 
     private final IMidiInput      ctrlInput;
     private final IMidiOutput     ctrlOutput;
+    private final SysexBuilder    sysexBuilder                = new SysexBuilder (SYSEX_HDR);
 
 
     /**
@@ -144,44 +142,60 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      *
      * @param controlID The element starting from 1, increasing from left to right, top to bottom
      * @param cache The message is only send if the parameters are different from the previous call
-     * @param name The name to set
-     * @param color The color to set
-     * @param visibility The visibility to set
+     * @param name The name to set, not sent if null
+     * @param color The color to set, not sent if null
+     * @param visibility The visibility to set, not sent if null
      */
-    public void updateElement (final int controlID, final String [] cache, final String name, final ColorEx color, final Boolean visibility)
+    public void updateElement (final int controlID, final ElectraOneElementCache cache, final String name, final ColorEx color, final Boolean visibility)
     {
-        final ObjectMapper mapper = new ObjectMapper ();
+        if (!cache.update (controlID, name, color, visibility))
+            return;
 
-        final StringWriter writer = new StringWriter ();
-        try (final JsonGenerator generator = mapper.createGenerator (writer))
+        // Write the JSON object directly into the system exclusive message
+        this.sysexBuilder.add (SYSEX_UPDATE_ELEMENT).add (controlID & 0x7F).add (controlID >> 7).add ('{');
+        if (name != null)
+        {
+            this.sysexBuilder.addAscii ("\"name\":");
+            this.addJsonString (StringUtils.fixASCII (name));
+        }
+        if (color != null)
         {
-            generator.writeStartObject ();
             if (name != null)
-                generator.writeStringField ("name", name);
-            if (color != null)
-                generator.writeStringField ("color", StringUtils.formatColor (color));
-            if (visibility != null)
-                generator.writeBooleanField ("visible", visibility.booleanValue ());
-            generator.writeEndObject ();
+                this.sysexBuilder.add (',');
+            this.sysexBuilder.addAscii ("\"color\":\"");
+            for (final int c: color.toIntRGB255 ())
+                this.sysexBuilder.add (HEX_DIGITS[c >> 4 & 0xF]).add (HEX_DIGITS[c & 0xF]);
+            this.sysexBuilder.add ('"');
         }
-        catch (final IOException ex)
+        if (visibility != null)
         {
-            this.host.error (name, ex);
-            return;
+            if (name != null || color != null)
+                this.sysexBuilder.add (',');
+            this.sysexBuilder.addAscii (visibility.booleanValue () ? "\"visible\":true" : "\"visible\":false");
         }
+        this.sysexBuilder.add ('}').send (this.ctrlOutput);
+    }
 
-        final String json = writer.toString ();
 
-        if (json.equals (cache[controlID]))
-            return;
-        cache[controlID] = json;
-
-        final byte [] command = new byte [4];
-        command[0] = SYSEX_UPDATE_ELEMENT[0];
-        command[1] = SYSEX_UPDATE_ELEMENT[1];
-        command[2] = (byte) (controlID & 0x7F);
-        command[3] = (byte) (controlID >> 7);
-        this.sendText (command, json);
+    /**
+     * Add a quoted and escaped JSON string to the system exclusive message.
+     *
+     * @param text The ASCII text to add
+     */
+    private void addJsonString (final String text)
+    {
+        this.sysexBuilder.add ('"');
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            if (c == '"' || c == '\\')
+                this.sysexBuilder.add ('\\').add (c);
+            else if (c < 0x20)
+                this.sysexBuilder.addAscii ("\\u00").add (HEX_DIGITS[c >> 4]).add (HEX_DIGITS[c & 0xF]);
+            else
+                this.sysexBuilder.add (c);
+        }
+        this.sysexBuilder.add ('"');
     }
 
 
@@ -205,30 +219,7 @@ public class ElectraOneControlSurface extends AbstractControlSurface<ElectraOneC
      */
     private void sendText (final byte [] command, final String text)
     {
-        this.sendSysex (command, StringUtils.fixASCII (text).getBytes ());
-    }
-
-
-    /**
-     * Send a byte array to the CTRL output of the Electra.One.
-     *
-     * @param command The command bytes
-     * @param content The content bytes
-     */
-    private void sendSysex (final byte [] command, final byte [] content)
-    {
-        try (final ByteArrayOutputStream out = new ByteArrayOutputStream ())
-        {
-            out.write (SYSEX_HDR);
-            out.write (command);
-            out.write (content);
-            out.write ((byte) 0xF7);
-            this.ctrlOutput.sendSysex (out.toByteArray ());
-        }
-        catch (final IOException ex)
-        {
-            this.host.error ("Could not send JSON command.", ex);
-        }
+        this.sysexBuilder.add (command).addAscii (StringUtils.fixASCII (text)).send (this.ctrlOutput);
     }
 
 
@@ -0,0 +1,73 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.electra.one.controller;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+
+/**
+ * Caches the name, color and visibility which were last sent to the elements of an Electra.One
+ * page.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ElectraOneElementCache
+{
+    private final boolean [] isSet;
+    private final String []  names;
+    private final ColorEx [] colors;
+    private final Boolean [] visibilities;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The number of elements to cache
+     */
+    public ElectraOneElementCache (final int size)
+    {
+        this.isSet = new boolean [size];
+        this.names = new String [size];
+        this.colors = new ColorEx [size];
+        this.visibilities = new Boolean [size];
+    }
+
+
+    /**
+     * Stores the values of an element if they differ from the cached values.
+     *
+     * @param controlID The ID of the element
+     * @param name The name, might be null
+     * @param color The color, might be null
+     * @param visibility The visibility, might be null
+     * @return True if the values were different and therefore need to be sent
+     */
+    public boolean update (final int controlID, final String name, final ColorEx color, final Boolean visibility)
+    {
+        if (this.isSet[controlID] && Objects.equals (name, this.names[controlID]) && Objects.equals (color, this.colors[controlID]) && Objects.equals (visibility, this.visibilities[controlID]))
+            return false;
+
+        this.isSet[controlID] = true;
+        this.names[controlID] = name;
+        this.colors[controlID] = color;
+        this.visibilities[controlID] = visibility;
+        return true;
+    }
+
+
+    /**
+     * Clear the cache.
+     */
+    public void clear ()
+    {
+        Arrays.fill (this.isSet, false);
+        Arrays.fill (this.names, null);
+        Arrays.fill (this.colors, null);
+        Arrays.fill (this.visibilities, null);
+    }
+}
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.electra.one.ElectraOneConfiguration;
 import de.mossgrabers.controller.electra.one.ElectraOnePlayPositionParameter;
 import de.mossgrabers.controller.electra.one.controller.ElectraOneColorManager;
 import de.mossgrabers.controller.electra.one.controller.ElectraOneControlSurface;
+import de.mossgrabers.controller.electra.one.controller.ElectraOneElementCache;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.ContinuousID;
 import de.mossgrabers.framework.controller.color.ColorEx;
@@ -43,7 +44,7 @@ public class SendsMode extends DefaultTrackMode<ElectraOneControlSurface, Electr
         KNOB_IDS.addAll (ContinuousID.createSequentialList (ContinuousID.SEND2_KNOB1, 6));
     }
 
-    private static final int [] SEND_IDS     =
+    private static final int []          SEND_IDS     =
     {
         ElectraOneControlSurface.ELECTRA_ONE_SEND1,
         ElectraOneControlSurface.ELECTRA_ONE_SEND2,
@@ -53,9 +54,9 @@ public class SendsMode extends DefaultTrackMode<ElectraOneControlSurface, Electr
         ElectraOneControlSurface.ELECTRA_ONE_SEND6
     };
 
-    private final int []        valueCache   = new int [128];
-    private final String []     elementCache = new String [37];
-    private final String []     groupCache   = new String [37];
+    private final int []                 valueCache   = new int [128];
+    private final ElectraOneElementCache elementCache = new ElectraOneElementCache (37);
+    private final String []              groupCache   = new String [37];
 
 
     /**
@@ -212,7 +213,7 @@ public class SendsMode extends DefaultTrackMode<ElectraOneControlSurface, Electr
     public void onActivate ()
     {
         Arrays.fill (this.valueCache, -1);
-        Arrays.fill (this.elementCache, null);
+        this.elementCache.clear ();
         Arrays.fill (this.groupCache, null);
 
         super.onActivate ();
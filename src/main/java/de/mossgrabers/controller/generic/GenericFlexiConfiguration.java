@@ -21,7 +21,6 @@ import de.mossgrabers.framework.daw.midi.ArpeggiatorMode;
 import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FileEx;
-import de.mossgrabers.framework.utils.Pair;
 
 import java.io.File;
 import java.io.FileReader;
@@ -259,6 +258,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     /** The number of command slots. */
     public static final int                          NUM_SLOTS                    = 300;
 
+    private static final int                         NUM_SLOT_TYPES               = CommandSlot.TYPE_MMC + 1;
+
     private IEnumSetting                             slotSelectionSetting;
     private IEnumSetting                             typeSetting;
     private IEnumSetting                             numberSetting;
@@ -282,12 +283,19 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private final Object                             syncMapUpdate                = new Object ();
     private int []                                   keyMap;
+    private volatile int [] [] []                    slotLookup;
     private int                                      selectedSlot                 = 0;
 
     private String                                   learnTypeValue               = null;
     private String                                   learnNumberValue             = null;
     private String                                   learnMidiChannelValue        = null;
     private boolean                                  learnResolution              = false;
+    private boolean                                  isLearnEnabled               = true;
+    private boolean                                  hasLearnUpdate               = false;
+    private String                                   learnTypeUpdate              = null;
+    private int                                      learnNumberUpdate            = 0;
+    private int                                      learnMidiChannelUpdate       = 0;
+    private boolean                                  learnResolutionUpdate        = false;
 
     private final AtomicBoolean                      doNotFire                    = new AtomicBoolean (false);
     private final AtomicBoolean                      commandIsUpdating            = new AtomicBoolean (false);
@@ -343,6 +351,13 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         category = "Use a knob/fader/button then click Set...";
 
+        final IEnumSetting learnEnabledSetting = globalSettings.getEnumSetting ("Learn:", category, ON_OFF_OPTIONS, ON_OFF_OPTIONS[1]);
+        learnEnabledSetting.addValueObserver (value -> {
+            this.isLearnEnabled = ON_OFF_OPTIONS[1].equals (value);
+            if (!this.isLearnEnabled)
+                this.hasLearnUpdate = false;
+        });
+
         this.learnTypeSetting = globalSettings.getEnumSetting ("Type:", category, OPTIONS_TYPE, OPTIONS_TYPE.get (0));
         this.learnNumberSetting = globalSettings.getEnumSetting ("Number:", category, NUMBER_NAMES, NUMBER_NAMES.get (0));
         this.learnMidiChannelSetting = globalSettings.getEnumSetting ("Midi Channel:", category, OPTIONS_MIDI_CHANNEL, OPTIONS_MIDI_CHANNEL[0]);
@@ -567,6 +582,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = slot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         slot.setCommand (newCommand);
+        this.clearSlotLookup ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -601,7 +617,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Set a received CC value.
+     * Set a received CC value. Only stores the values if learning is enabled, the settings are
+     * updated with the latest values on the next call to flushLearnValues.
      *
      * @param type The CC, Note or Program Change
      * @param number The number
@@ -610,15 +627,43 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public void setLearnValues (final String type, final int number, final int midiChannel, final boolean isHighRes)
     {
-        this.learnTypeValue = type;
-        this.learnNumberValue = NUMBER_NAMES.get (number);
-        this.learnMidiChannelValue = Integer.toString (midiChannel + 1);
-        this.learnResolution = isHighRes;
-
-        this.learnTypeSetting.set (type);
-        this.learnNumberSetting.set (this.learnNumberValue);
-        this.learnMidiChannelSetting.set (this.learnMidiChannelValue);
-        this.learnResolutionSetting.set (OPTIONS_RESOLUTION.get (this.learnResolution ? 1 : 0));
+        if (!this.isLearnEnabled)
+            return;
+
+        this.learnTypeUpdate = type;
+        this.learnNumberUpdate = number;
+        this.learnMidiChannelUpdate = midiChannel;
+        this.learnResolutionUpdate = isHighRes;
+        this.hasLearnUpdate = true;
+    }
+
+
+    /**
+     * Update the learn settings with the latest received values, if any. Settings are only written
+     * if their value has changed.
+     */
+    public void flushLearnValues ()
+    {
+        if (!this.hasLearnUpdate)
+            return;
+        this.hasLearnUpdate = false;
+
+        this.learnTypeValue = this.learnTypeUpdate;
+        this.learnNumberValue = NUMBER_NAMES.get (this.learnNumberUpdate);
+        this.learnMidiChannelValue = OPTIONS_MIDI_CHANNEL[this.learnMidiChannelUpdate];
+        this.learnResolution = this.learnResolutionUpdate;
+
+        updateSetting (this.learnTypeSetting, this.learnTypeValue);
+        updateSetting (this.learnNumberSetting, this.learnNumberValue);
+        updateSetting (this.learnMidiChannelSetting, this.learnMidiChannelValue);
+        updateSetting (this.learnResolutionSetting, OPTIONS_RESOLUTION.get (this.learnResolution ? 1 : 0));
+    }
+
+
+    private static void updateSetting (final IEnumSetting setting, final String value)
+    {
+        if (!value.equals (setting.get ()))
+            setting.set (value);
     }
 
 
@@ -632,41 +677,76 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        if (type < 0 || type >= NUM_SLOT_TYPES || midiChannel < 0 || midiChannel >= 16)
+            return -1;
+        // The number is not relevant for pitchbend, it is always stored at index 0
+        final int index = type == CommandSlot.TYPE_PITCH_BEND ? 0 : number;
+        if (index < 0 || index >= 128)
+            return -1;
+        return this.getSlotLookup ()[type][midiChannel][index];
+    }
+
+
+    /**
+     * Get the lookup table for the slots. The table is created if it was cleared because of a slot
+     * change.
+     *
+     * @return The index of the first matching slot for each type, MIDI channel and number or -1
+     */
+    private int [] [] [] getSlotLookup ()
+    {
+        final int [] [] [] lookup = this.slotLookup;
+        if (lookup != null)
+            return lookup;
+
+        synchronized (this.syncMapUpdate)
         {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
+            if (this.slotLookup == null)
             {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    return i;
+                final int [] [] [] newLookup = new int [NUM_SLOT_TYPES] [16] [128];
+                for (final int [] [] channels: newLookup)
+                {
+                    for (final int [] numbers: channels)
+                        Arrays.fill (numbers, -1);
+                }
+
+                // Iterate backwards, so that the slot with the lowest index wins
+                for (int i = this.commandSlots.length - 1; i >= 0; i--)
+                {
+                    final CommandSlot slot = this.commandSlots[i];
+                    final int type = slot.getType ();
+                    if (slot.getCommand () == FlexiCommand.OFF || type < 0 || type >= NUM_SLOT_TYPES)
+                        continue;
+                    final int number = type == CommandSlot.TYPE_PITCH_BEND ? 0 : slot.getNumber ();
+                    if (number < 0 || number >= 128)
+                        continue;
+                    final int channel = slot.getMidiChannel ();
+                    if (channel == 16)
+                    {
+                        for (final int [] numbers: newLookup[type])
+                            numbers[number] = i;
+                    }
+                    else if (channel >= 0 && channel < 16)
+                        newLookup[type][channel][number] = i;
+                }
+
+                this.slotLookup = newLookup;
             }
+            return this.slotLookup;
         }
-        return -1;
     }
 
 
     /**
-     * Get a matching configured slot, if available.
-     *
-     * @param type The type
-     * @param number The number
-     * @param midiChannel The MIDI channel
-     * @return The slot or empty if not found
+     * Clear the slot lookup table. Needs to be called if the type, number, MIDI channel or command
+     * of a slot has changed.
      */
-    public Optional<Pair<Integer, CommandSlot>> getSlot (final int type, final int number, final int midiChannel)
+    private void clearSlotLookup ()
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        synchronized (this.syncMapUpdate)
         {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-            {
-                final int channel = slot.getMidiChannel ();
-                if (channel == midiChannel || channel == 16)
-                    return Optional.of (new Pair<> (Integer.valueOf (i), slot));
-            }
+            this.slotLookup = null;
         }
-        return Optional.empty ();
     }
 
 
@@ -705,6 +785,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         synchronized (this.syncMapUpdate)
         {
             this.keyMap = null;
+            this.slotLookup = null;
         }
         this.notifyObservers (SLOT_CHANGE);
     }
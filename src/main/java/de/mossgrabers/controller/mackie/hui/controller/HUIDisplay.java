@@ -7,12 +7,11 @@ package de.mossgrabers.controller.mackie.hui.controller;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.SharedLatestTaskExecutor;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -24,9 +23,17 @@ import java.util.concurrent.TimeUnit;
  */
 public class HUIDisplay extends AbstractTextDisplay
 {
-    private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
+    private static final String            SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10";
 
-    private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private static final int               CELL_LENGTH          = 4;
+
+    private final SharedLatestTaskExecutor executor             = SharedLatestTaskExecutor.acquire ();
+    private final AtomicBoolean            isLineInvalid        = new AtomicBoolean (false);
+    private volatile boolean               isShutdown           = false;
+
+    // Only used from the thread of the executor
+    private final SysexBuilder             sysexBuilder         = new SysexBuilder (SYSEX_DISPLAY_HEADER);
+    private char []                        sentLine;
 
 
     /**
@@ -46,9 +53,9 @@ public class HUIDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        if (this.executor.isShutdown ())
+        if (this.isShutdown)
             return;
-        this.executor.execute ( () -> {
+        this.executor.execute (this, () -> {
             try
             {
                 this.sendDisplayLine (text);
@@ -61,23 +68,52 @@ public class HUIDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        // Send the next line completely
+        this.isLineInvalid.set (true);
+
+        super.forceFlush ();
+    }
+
+
     /**
-     * Send a line to the display.
+     * Send a line to the display. Only the cells which are different from the previously sent line
+     * are sent.
      *
      * @param text The text to send
      */
     private void sendDisplayLine (final String text)
     {
-        final String t = text;
+        final boolean sendAll = this.isLineInvalid.getAndSet (false) || this.sentLine == null;
+        if (this.sentLine == null)
+            this.sentLine = new char [this.noOfCells * CELL_LENGTH];
 
-        final int [] array = new int [5];
         for (int cell = 0; cell < this.noOfCells; cell++)
         {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
+            final int start = cell * CELL_LENGTH;
+            if (!sendAll && this.isCellUnchanged (text, start))
+                continue;
+
+            text.getChars (start, start + CELL_LENGTH, this.sentLine, start);
+            this.sysexBuilder.add (cell);
+            for (int i = 0; i < CELL_LENGTH; i++)
+                this.sysexBuilder.add (this.sentLine[start + i]);
+            this.sysexBuilder.send (this.output);
+        }
+    }
+
+
+    private boolean isCellUnchanged (final String text, final int start)
+    {
+        for (int i = start; i < start + CELL_LENGTH; i++)
+        {
+            if (text.charAt (i) != this.sentLine[i])
+                return false;
         }
+        return true;
     }
 
 
@@ -87,32 +123,17 @@ public class HUIDisplay extends AbstractTextDisplay
     {
         this.notifyOnDisplay ("Please start " + this.host.getName () + "...");
 
-        final ExecutorService shutdownExecutor = Executors.newSingleThreadExecutor ();
-        shutdownExecutor.execute ( () -> {
+        // Prevent further sends
+        this.isShutdown = true;
 
-            // Prevent further sends
-            this.executor.shutdown ();
-            try
-            {
-                if (!this.executor.awaitTermination (5, TimeUnit.SECONDS))
-                    this.host.error ("HUI display send executor did not end in 5 seconds.");
-            }
-            catch (final InterruptedException ex)
-            {
-                this.host.error ("HUI display send executor interrupted.", ex);
-                Thread.currentThread ().interrupt ();
-            }
-
-        });
-        shutdownExecutor.shutdown ();
         try
         {
-            if (!shutdownExecutor.awaitTermination (10, TimeUnit.SECONDS))
-                this.host.error ("HUI display shutdown executor did not end in 10 seconds.");
+            if (!this.executor.release (5, TimeUnit.SECONDS))
+                this.host.error ("HUI display send executor did not end in 5 seconds.");
         }
         catch (final InterruptedException ex)
         {
-            this.host.error ("Display shutdown interrupted.", ex);
+            this.host.error ("HUI display send executor interrupted.", ex);
             Thread.currentThread ().interrupt ();
         }
     }
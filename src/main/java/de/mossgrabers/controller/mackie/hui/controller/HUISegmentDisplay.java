@@ -7,7 +7,7 @@ package de.mossgrabers.controller.mackie.hui.controller;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.Arrays;
 import java.util.Locale;
@@ -20,10 +20,11 @@ import java.util.Locale;
  */
 public class HUISegmentDisplay extends AbstractTextDisplay
 {
-    private static final String SYSEX_HDR          = "F0 00 00 66 05 00 11 ";
+    private static final String SYSEX_HDR          = "F0 00 00 66 05 00 11";
 
     private final int []        transportBuffer    = new int [8];
     private final int []        oldtransportBuffer = new int [8];
+    private final SysexBuilder  sysexBuilder       = new SysexBuilder (SYSEX_HDR);
 
 
     /**
@@ -86,10 +87,9 @@ public class HUISegmentDisplay extends AbstractTextDisplay
         System.arraycopy (this.transportBuffer, 0, this.oldtransportBuffer, 0, pos + 1);
 
         // Create and send the message with changed digits
-        final int [] data = new int [pos + 1];
-        System.arraycopy (this.transportBuffer, 0, data, 0, data.length);
-        final String msg = SYSEX_HDR + StringUtils.toHexStr (data) + "F7";
-        this.output.sendSysex (msg);
+        for (int i = 0; i <= pos; i++)
+            this.sysexBuilder.add (this.transportBuffer[i]);
+        this.sysexBuilder.send (this.output);
     }
 
 
@@ -8,12 +8,12 @@ import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.SharedLatestTaskExecutor;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
@@ -23,17 +23,27 @@ import java.util.concurrent.TimeUnit;
  */
 public class MCUDisplay extends AbstractTextDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1_MAIN     = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13 ";
+    private static final String            SYSEX_DISPLAY_HEADER1_MAIN     = "F0 00 00 66 14 12";
+    private static final String            SYSEX_DISPLAY_HEADER1_EXTENDER = "F0 00 00 66 15 12";
+    private static final String            SYSEX_DISPLAY_HEADER2          = "F0 00 00 67 15 13";
 
-    private final boolean               isFirstDisplay;
-    private final boolean               isExtender;
-    private final boolean               hasMaster;
+    private final boolean                  isFirstDisplay;
+    private final boolean                  isExtender;
+    private final boolean                  hasMaster;
 
-    private final LatestTaskExecutor [] executors                      = new LatestTaskExecutor [4];
-    private boolean                     isShutdown                     = false;
-    private boolean                     insertSpace                    = true;
+    /**
+     * Unchanged characters between two changed ones are sent as well if there are less of them
+     * than the overhead of an additional message (header, offset and end byte).
+     */
+    private static final int               MAX_UNCHANGED_GAP              = 8;
+
+    private final SharedLatestTaskExecutor executor;
+    private final Object []                lineKeys                       = new Object [2];
+    private final AtomicBoolean []         isLineInvalid                  = new AtomicBoolean [2];
+    private final char [] []               sentLines                      = new char [2] [];
+    private final SysexBuilder             sysexBuilder;
+    private volatile boolean               isShutdown                     = false;
+    private boolean                        insertSpace                    = true;
 
 
     /**
@@ -54,8 +64,14 @@ public class MCUDisplay extends AbstractTextDisplay
         this.hasMaster = hasMaster;
         this.isExtender = isMCUExtender;
 
-        for (int i = 0; i < this.executors.length; i++)
-            this.executors[i] = new LatestTaskExecutor ();
+        // The builder and the sent lines are only used from the thread of the executor
+        this.sysexBuilder = new SysexBuilder (this.getHeader ());
+        for (int i = 0; i < this.lineKeys.length; i++)
+        {
+            this.lineKeys[i] = new Object ();
+            this.isLineInvalid[i] = new AtomicBoolean (false);
+        }
+        this.executor = SharedLatestTaskExecutor.acquire ();
     }
 
 
@@ -81,7 +97,7 @@ public class MCUDisplay extends AbstractTextDisplay
                 content = StringUtils.pad (value, this.charactersOfCell - 1) + " ";
             else
                 content = StringUtils.pad (value, this.charactersOfCell);
-            this.cells[row * this.noOfCells + column] = content;
+            this.setCellContent (row * this.noOfCells + column, content);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -114,15 +130,10 @@ public class MCUDisplay extends AbstractTextDisplay
         if (this.isShutdown)
             return;
 
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirstDisplay ? 0 : 2)];
-        executor.execute ( () -> {
+        this.executor.execute (this.lineKeys[row], () -> {
             try
             {
-                final int length = text.length ();
-                final int [] array = new int [length];
-                for (int i = 0; i < length; i++)
-                    array[i] = text.charAt (i);
-                this.output.sendSysex (new StringBuilder (this.getHeader ()).append (row == 0 ? "00 " : "38 ").append (StringUtils.toHexStr (array)).append ("F7").toString ());
+                this.sendLine (row, text);
             }
             catch (final RuntimeException ex)
             {
@@ -132,6 +143,74 @@ public class MCUDisplay extends AbstractTextDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        // Send the next lines completely
+        for (final AtomicBoolean invalid: this.isLineInvalid)
+            invalid.set (true);
+
+        super.forceFlush ();
+    }
+
+
+    /**
+     * Send only the characters of a line which are different from the previously sent line. The
+     * display supports addressing each character, therefore the changed parts are sent with their
+     * offset.
+     *
+     * @param row The row of the line
+     * @param text The text of the line
+     */
+    private void sendLine (final int row, final String text)
+    {
+        final int rowOffset = row == 0 ? 0x00 : 0x38;
+        final int length = text.length ();
+
+        char [] sentLine = this.sentLines[row];
+        if (this.isLineInvalid[row].getAndSet (false) || sentLine == null || sentLine.length != length)
+        {
+            sentLine = text.toCharArray ();
+            this.sentLines[row] = sentLine;
+            this.sendCharacters (rowOffset, text, 0, length);
+            return;
+        }
+
+        int pos = 0;
+        while (pos < length)
+        {
+            // Find the start of the next changed characters
+            while (pos < length && text.charAt (pos) == sentLine[pos])
+                pos++;
+            if (pos == length)
+                return;
+
+            // Find the end of the changed characters, include small unchanged gaps
+            final int start = pos;
+            int end = pos + 1;
+            for (pos = end; pos < length && pos - end < MAX_UNCHANGED_GAP; pos++)
+            {
+                if (text.charAt (pos) != sentLine[pos])
+                    end = pos + 1;
+            }
+
+            text.getChars (start, end, sentLine, start);
+            this.sendCharacters (rowOffset + start, text, start, end);
+            pos = end;
+        }
+    }
+
+
+    private void sendCharacters (final int offset, final String text, final int start, final int end)
+    {
+        this.sysexBuilder.add (offset);
+        for (int i = start; i < end; i++)
+            this.sysexBuilder.add (text.charAt (i));
+        this.sysexBuilder.send (this.output);
+    }
+
+
     private String getHeader ()
     {
         if (this.isFirstDisplay)
@@ -152,34 +231,14 @@ public class MCUDisplay extends AbstractTextDisplay
         // Prevent further sends
         this.isShutdown = true;
 
-        final ExecutorService shutdownExecutor = Executors.newSingleThreadExecutor ();
-        shutdownExecutor.execute ( () -> {
-
-            for (final LatestTaskExecutor executor: this.executors)
-            {
-                executor.shutdown ();
-                try
-                {
-                    if (!executor.awaitTermination (5, TimeUnit.SECONDS))
-                        this.host.error ("MCU display send executor did not end in 5 seconds.");
-                }
-                catch (final InterruptedException ex)
-                {
-                    this.host.error ("MCU display send executor interrupted.", ex);
-                    Thread.currentThread ().interrupt ();
-                }
-            }
-
-        });
-        shutdownExecutor.shutdown ();
         try
         {
-            if (!shutdownExecutor.awaitTermination (10, TimeUnit.SECONDS))
-                this.host.error ("MCU display shutdown executor did not end in 10 seconds.");
+            if (!this.executor.release (5, TimeUnit.SECONDS))
+                this.host.error ("MCU display send executor did not end in 5 seconds.");
         }
         catch (final InterruptedException ex)
         {
-            this.host.error ("Display shutdown interrupted.", ex);
+            this.host.error ("MCU display send executor interrupted.", ex);
             Thread.currentThread ().interrupt ();
         }
     }
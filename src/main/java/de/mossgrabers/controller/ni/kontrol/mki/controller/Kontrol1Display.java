@@ -79,12 +79,12 @@ public class Kontrol1Display extends AbstractTextDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * this.noOfCells + cell] = value.substring (0, 9);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (9), 8);
+            this.setCellContent (row * this.noOfCells + cell, value.substring (0, 9));
+            this.setCellContent (row * this.noOfCells + cell + 1, StringUtils.pad (value.substring (9), 8));
         }
         else
         {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value, 9);
+            this.setCellContent (row * this.noOfCells + cell, StringUtils.pad (value, 9));
             this.clearCell (row, cell + 1);
         }
         return this;
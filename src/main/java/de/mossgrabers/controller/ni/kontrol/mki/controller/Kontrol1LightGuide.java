@@ -7,6 +7,7 @@ package de.mossgrabers.controller.ni.kontrol.mki.controller;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.LightGuideImpl;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 
 
 /**
@@ -35,16 +36,12 @@ public class Kontrol1LightGuide extends LightGuideImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
-        final int [] translated = super.translateToController (note);
-
         final int firstNote = this.usbDevice.getFirstNote ();
         if (note < firstNote || note >= firstNote + this.usbDevice.getNumKeys ())
-            translated[1] = -1;
-        else
-            translated[1] = note - firstNote;
-        return translated;
+            return TranslatedNote.create (0, -1);
+        return TranslatedNote.create (0, note - firstNote);
     }
 
 
@@ -202,7 +202,7 @@ public class MaschineColorManager extends ColorManager
      */
     public int dimOrHighlightColor (final ColorEx color, final boolean isSelected)
     {
-        final int colorIndex = this.getColorIndex (DAWColor.getColorID (color));
+        final int colorIndex = this.getColorIndex (DAWColor.getClosestColor (color));
         if (isSelected)
             return colorIndex == MaschineColorManager.COLOR_DARK_GREY ? MaschineColorManager.COLOR_WHITE : colorIndex;
         return colorIndex / 8 * 8 + 5;
@@ -50,8 +50,7 @@ public class MaschineJamPanMode extends TrackPanMode<MaschineJamControlSurface,
         if (!track.doesExist ())
             return FADER_OFF;
 
-        final String c = DAWColor.getColorID (track.getColor ());
-        final int color = this.colorManager.getColorIndex (c);
+        final int color = this.colorManager.getColorIndex (DAWColor.getClosestColor (track.getColor ()));
         final int value = this.model.getValueChanger ().toMidiValue (track.getPan ());
         return new FaderConfig (FaderConfig.TYPE_PAN, color, value);
     }
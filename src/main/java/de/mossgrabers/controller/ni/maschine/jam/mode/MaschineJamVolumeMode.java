@@ -50,8 +50,7 @@ public class MaschineJamVolumeMode extends TrackVolumeMode<MaschineJamControlSur
         if (!track.doesExist ())
             return FADER_OFF;
 
-        final String c = DAWColor.getColorID (track.getColor ());
-        final int color = this.colorManager.getColorIndex (c);
+        final int color = this.colorManager.getColorIndex (DAWColor.getClosestColor (track.getColor ()));
         final int value = this.model.getValueChanger ().toMidiValue (track.getVolume ());
 
         if (!this.model.getTransport ().isPlaying ())
@@ -70,7 +70,7 @@ public class MuteView extends BaseView
             final int y = 3 - i / 4;
             if (item.doesExist ())
             {
-                final int colorIndex = this.colorManager.getColorIndex (DAWColor.getColorID (item.getColor ()));
+                final int colorIndex = this.colorManager.getColorIndex (DAWColor.getClosestColor (item.getColor ()));
                 if (item.isMute ())
                     padGrid.lightEx (x, y, colorIndex, MaschineColorManager.COLOR_DARK_GREY, false);
                 else
@@ -71,7 +71,7 @@ public class SelectView extends BaseView
             final int y = 3 - i / 4;
             if (item.doesExist ())
             {
-                final int colorIndex = this.colorManager.getColorIndex (DAWColor.getColorID (item.getColor ()));
+                final int colorIndex = this.colorManager.getColorIndex (DAWColor.getClosestColor (item.getColor ()));
                 if (item.isSelected ())
                     padGrid.lightEx (x, y, colorIndex, MaschineColorManager.COLOR_WHITE, false);
                 else
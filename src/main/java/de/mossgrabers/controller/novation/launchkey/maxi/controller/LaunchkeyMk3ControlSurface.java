@@ -8,6 +8,7 @@ import de.mossgrabers.controller.novation.launchkey.maxi.LaunchkeyMk3Configurati
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.IHost;
@@ -175,15 +176,15 @@ public class LaunchkeyMk3ControlSurface extends AbstractControlSurface<Launchkey
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD17, i);
             IHwButton pad = this.createButton (buttonID, "D " + (i + 1));
             pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
-            int [] translated = LaunchkeyPadGrid.translateToController (Views.DRUM, note);
-            pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
+            int translated = LaunchkeyPadGrid.translateToController (Views.DRUM, note);
+            pad.bind (this.input, BindType.NOTE, TranslatedNote.getChannel (translated), TranslatedNote.getNote (translated));
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
 
             final ButtonID buttonID2 = ButtonID.get (ButtonID.PAD33, i);
             pad = this.createButton (buttonID2, "DS " + (i + 1));
             pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID2), null));
             translated = LaunchkeyPadGrid.translateToController (Views.DEVICE, note);
-            pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
+            pad.bind (this.input, BindType.NOTE, TranslatedNote.getChannel (translated), TranslatedNote.getNote (translated));
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
         }
     }
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.novation.launchkey.maxi.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.view.Views;
 
@@ -101,7 +102,7 @@ public class LaunchkeyPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
         return translateToController (this.activeView, note);
     }
@@ -112,38 +113,27 @@ public class LaunchkeyPadGrid extends PadGridImpl
      *
      * @param view The view
      * @param note The outgoing note
-     * @return The MIDI channel (index 0) and note (index 1) scaled to the controller
+     * @return The MIDI channel and note scaled to the controller, packed into one value, use
+     *         TranslatedNote to access them
      */
-    public static int [] translateToController (final Views view, final int note)
+    public static int translateToController (final Views view, final int note)
     {
         if (view == null)
-            return new int []
-            {
-                0,
-                note
-            };
+            return TranslatedNote.create (0, note);
 
-        final int [] result = new int [2];
         final int n = note - 36;
         switch (view)
         {
             case DRUM:
-                result[0] = 9;
-                result[1] = MAP_DRUM[n];
-                break;
+                return TranslatedNote.create (9, MAP_DRUM[n]);
 
             case DEVICE:
-                result[0] = 0;
-                result[1] = MAP_DEVICE_SELECT[n];
-                break;
+                return TranslatedNote.create (0, MAP_DEVICE_SELECT[n]);
 
             default:
             case SESSION:
-                result[0] = 0;
-                result[1] = MAP_SESSION[n];
-                break;
+                return TranslatedNote.create (0, MAP_SESSION[n]);
         }
-        return result;
     }
 
 
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.command.core.ContinuousCommand;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
 import de.mossgrabers.framework.daw.IHost;
@@ -92,8 +93,8 @@ public class LaunchkeyMiniMk3ControlSurface extends AbstractControlSurface<Launc
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD17, i);
             final IHwButton pad = this.createButton (buttonID, "D " + (i + 1));
             pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), null));
-            final int [] translated = LaunchkeyPadGrid.translateToController (Views.DRUM, note);
-            pad.bind (input, BindType.NOTE, translated[0], translated[1]);
+            final int translated = LaunchkeyPadGrid.translateToController (Views.DRUM, note);
+            pad.bind (input, BindType.NOTE, TranslatedNote.getChannel (translated), TranslatedNote.getNote (translated));
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
         }
 
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.novation.launchkey.mini.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.view.Views;
 
@@ -82,7 +83,7 @@ public class LaunchkeyPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
         return translateToController (this.activeView, note);
     }
@@ -93,22 +94,14 @@ public class LaunchkeyPadGrid extends PadGridImpl
      *
      * @param view The view
      * @param note The outgoing note
-     * @return The MIDI channel (index 0) and note (index 1) scaled to the controller
+     * @return The MIDI channel and note scaled to the controller, packed into one value, use
+     *         TranslatedNote to access them
      */
-    public static int [] translateToController (final Views view, final int note)
+    public static int translateToController (final Views view, final int note)
     {
-        final int [] result = new int [2];
         if (view == null || view == Views.SESSION)
-        {
-            result[0] = 0;
-            result[1] = MAP_SESSION[note - 36];
-        }
-        else
-        {
-            result[0] = 9;
-            result[1] = MAP_DRUM[note - 36];
-        }
-        return result;
+            return TranslatedNote.create (0, MAP_SESSION[note - 36]);
+        return TranslatedNote.create (9, MAP_DRUM[note - 36]);
     }
 
 
@@ -182,6 +182,10 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         ms.enableDrum64Device ();
         ms.setHasFullFlatTrackList (this.configuration.areMasterTracksIncluded ());
         this.model = this.factory.createModel (this.configuration, this.colorManager, this.valueChanger, this.scales, ms);
+
+        // Create the default cursor clip before the sequencer clips, since their observers are only
+        // enabled while a sequencer view is active
+        this.model.ensureClip ();
     }
 
 
@@ -378,7 +382,7 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         surface.createLight (OutputID.LED1, () -> {
 
             final ITrack cursorTrack = this.model.getCursorTrack ();
-            return cursorTrack.doesExist () ? this.colorManager.getColorIndex (DAWColor.getColorID (cursorTrack.getColor ())) : 0;
+            return cursorTrack.doesExist () ? this.colorManager.getColorIndex (DAWColor.getClosestColor (cursorTrack.getColor ())) : 0;
 
         }, color -> this.definition.setLogoColor (surface, color), state -> this.colorManager.getColor (state, null), null);
 
@@ -505,7 +509,7 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         if (modeManager.isActive (Modes.STOP_CLIP))
             return surface.isPressed (ButtonID.get (ButtonID.PAD1, index)) ? LaunchpadColorManager.LAUNCHPAD_COLOR_RED : LaunchpadColorManager.LAUNCHPAD_COLOR_ROSE;
 
-        return this.colorManager.getColorIndex (DAWColor.getColorID (track.getColor ()));
+        return this.colorManager.getColorIndex (DAWColor.getClosestColor (track.getColor ()));
     }
 
 
@@ -19,6 +19,7 @@ import de.mossgrabers.framework.daw.midi.DeviceInquiry;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.Views;
@@ -77,6 +78,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     public static final int                      CONTROL_MODE_STOP_CLIP      = 5;
 
     private final ILaunchpadControllerDefinition definition;
+    private final SysexBuilder                   sysexBuilder;
 
     private final IVirtualFader []               virtualFaders               = new IVirtualFader [8];
 
@@ -96,6 +98,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
         super (host, configuration, colorManager, output, input, new LaunchpadPadGrid (colorManager, output, definition), definition.isPro () ? 800 : 680, definition.isPro () ? 740 : 670);
 
         this.definition = definition;
+        this.sysexBuilder = new SysexBuilder (definition.getSysExHeader ());
 
         for (int i = 0; i < this.virtualFaders.length; i++)
             this.virtualFaders[i] = new VirtualFaderImpl (host, new VirtualFaderViewCallback (i, this.viewManager), this.padGrid, i);
@@ -266,7 +269,19 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      */
     public void sendLaunchpadSysEx (final String data)
     {
-        this.output.sendSysex (this.definition.getSysExHeader () + data + " F7");
+        this.sysexBuilder.addHex (data).send (this.output);
+    }
+
+
+    /**
+     * Send system exclusive data to the launchpad.
+     *
+     * @param data The data without the header and closing byte
+     * @param value An additional value to append to the data
+     */
+    public void sendLaunchpadSysEx (final String data, final int value)
+    {
+        this.sysexBuilder.addHex (data).add (value).send (this.output);
     }
 
 
@@ -6,13 +6,14 @@ package de.mossgrabers.controller.novation.launchpad.controller;
 
 import de.mossgrabers.controller.novation.launchpad.definition.ILaunchpadControllerDefinition;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.controller.grid.LightInfo;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.PadStateBuffer;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.TreeMap;
 
 
 /**
@@ -44,7 +45,8 @@ public class LaunchpadPadGrid extends PadGridImpl
     }
 
     private final ILaunchpadControllerDefinition definition;
-    private final Map<Integer, LightInfo>        padInfos = new TreeMap<> ();
+    private final PadStateBuffer                 padInfos          = new PadStateBuffer ();
+    private final SysexBuilder []                ledUpdateBuilders = new SysexBuilder [3];
 
 
     /**
@@ -59,6 +61,9 @@ public class LaunchpadPadGrid extends PadGridImpl
         super (colorManager, output);
 
         this.definition = definition;
+
+        for (int i = 0; i < this.ledUpdateBuilders.length; i++)
+            this.ledUpdateBuilders[i] = new SysexBuilder (definition.getSysExHeader ());
     }
 
 
@@ -73,14 +78,10 @@ public class LaunchpadPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
         // Translates note range 36-100 to launchpad grid (11-18, 21-28, ...)
-        return new int []
-        {
-            0,
-            TRANSLATE_MATRIX[note - 36]
-        };
+        return TranslatedNote.create (0, TRANSLATE_MATRIX[note - 36]);
     }
 
 
@@ -93,8 +94,12 @@ public class LaunchpadPadGrid extends PadGridImpl
         {
             if (this.padInfos.isEmpty ())
                 return;
-            for (final String update: this.definition.buildLEDUpdate (this.padInfos))
-                this.output.sendSysex (update);
+            this.definition.buildLEDUpdate (this.padInfos, this.ledUpdateBuilders);
+            for (final SysexBuilder builder: this.ledUpdateBuilders)
+            {
+                if (!builder.isEmpty ())
+                    builder.send (this.output);
+            }
             this.padInfos.clear ();
         }
     }
@@ -106,7 +111,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ()).setColor (color);
+            this.padInfos.setColor (note, color);
         }
     }
 
@@ -117,9 +122,7 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         synchronized (this.padInfos)
         {
-            final LightInfo info = this.padInfos.computeIfAbsent (Integer.valueOf (note), key -> new LightInfo ());
-            info.setBlinkColor (blinkColor);
-            info.setFast (fast);
+            this.padInfos.setBlink (note, blinkColor, fast);
         }
     }
 }
\ No newline at end of file
@@ -8,13 +8,9 @@ import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlS
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
 import de.mossgrabers.framework.controller.DefaultControllerDefinition;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.controller.grid.PadStateBuffer;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -110,35 +106,31 @@ public abstract class AbstractLaunchpadDefinition extends DefaultControllerDefin
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void buildLEDUpdate (final PadStateBuffer padInfos, final SysexBuilder [] builders)
     {
-        final StringBuilder sb = new StringBuilder (this.getSysExHeader ()).append ("03 ");
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        final SysexBuilder builder = builders[0].add (0x03);
+        for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
-
-            if (info.getBlinkColor () <= 0)
+            if (padInfos.getBlinkColor (note) <= 0)
             {
                 // 00h: Static color from palette, Lighting data is 1 byte specifying palette
                 // entry.
-                sb.append ("00 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                builder.add (0x00).add (note).add (padInfos.getColor (note));
             }
             else
             {
-                if (info.isFast ())
+                if (padInfos.isFast (note))
                 {
                     // 01h: Flashing color, Lighting data is 2 bytes specifying Color B and
                     // Color A.
-                    sb.append ("01 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    builder.add (0x01).add (note).add (padInfos.getBlinkColor (note)).add (padInfos.getColor (note));
                 }
                 else
                 {
                     // 02h: Pulsing color, Lighting data is 1 byte specifying palette entry.
-                    sb.append ("02 ").append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
+                    builder.add (0x02).add (note).add (padInfos.getColor (note));
                 }
             }
         }
-        return Collections.singletonList (sb.append ("F7").toString ());
     }
 }
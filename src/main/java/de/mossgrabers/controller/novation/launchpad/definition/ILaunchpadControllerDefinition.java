@@ -6,10 +6,8 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.ButtonSetup;
-import de.mossgrabers.framework.controller.grid.LightInfo;
-
-import java.util.List;
-import java.util.Map;
+import de.mossgrabers.framework.controller.grid.PadStateBuffer;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -93,10 +91,12 @@ public interface ILaunchpadControllerDefinition
 
 
     /**
-     * Create an update system exclusive string for all given pads.
+     * Add the update system exclusive messages for all given pads to the builders. The builders
+     * start with the system exclusive header of the device. Builders which stay empty are not
+     * sent.
      *
      * @param padInfos The info how to update the pads
-     * @return The system exclusive string
+     * @param builders The 3 builders to fill
      */
-    List<String> buildLEDUpdate (Map<Integer, LightInfo> padInfos);
+    void buildLEDUpdate (PadStateBuffer padInfos, SysexBuilder [] builders);
 }
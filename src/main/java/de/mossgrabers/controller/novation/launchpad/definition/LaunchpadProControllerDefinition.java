@@ -6,15 +6,12 @@ package de.mossgrabers.controller.novation.launchpad.definition;
 
 import de.mossgrabers.controller.novation.launchpad.controller.LaunchpadControlSurface;
 import de.mossgrabers.controller.novation.launchpad.definition.button.LaunchpadButton;
-import de.mossgrabers.framework.controller.grid.LightInfo;
+import de.mossgrabers.framework.controller.grid.PadStateBuffer;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.OperatingSystem;
 import de.mossgrabers.framework.utils.Pair;
-import de.mossgrabers.framework.utils.StringUtils;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 
 
@@ -131,7 +128,7 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
     @Override
     public void setLogoColor (final LaunchpadControlSurface surface, final int color)
     {
-        surface.sendLaunchpadSysEx ("0A 63 " + StringUtils.toHexStr (color));
+        surface.sendLaunchpadSysEx ("0A 63", color);
     }
 
 
@@ -145,36 +142,25 @@ public class LaunchpadProControllerDefinition extends AbstractLaunchpadDefinitio
 
     /** {@inheritDoc} */
     @Override
-    public List<String> buildLEDUpdate (final Map<Integer, LightInfo> padInfos)
+    public void buildLEDUpdate (final PadStateBuffer padInfos, final SysexBuilder [] builders)
     {
-        final StringBuilder sbNormal = new StringBuilder ();
-        final StringBuilder sbFlash = new StringBuilder ();
-        final StringBuilder sbPulse = new StringBuilder ();
+        final SysexBuilder normal = builders[0];
+        final SysexBuilder flash = builders[1];
+        final SysexBuilder pulse = builders[2];
 
-        for (final Entry<Integer, LightInfo> e: padInfos.entrySet ())
+        for (int note = padInfos.next (0); note >= 0; note = padInfos.next (note + 1))
         {
-            final int note = e.getKey ().intValue ();
-            final LightInfo info = e.getValue ();
+            if (normal.isEmpty ())
+                normal.add (0x0A);
+            normal.add (note).add (padInfos.getColor (note));
 
-            sbNormal.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getColor ())).append (' ');
-
-            if (info.getBlinkColor () > 0)
+            if (padInfos.getBlinkColor (note) > 0)
             {
-                if (info.isFast ())
-                    sbFlash.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
-                else
-                    sbPulse.append (StringUtils.toHexStr (note)).append (' ').append (StringUtils.toHexStr (info.getBlinkColor ())).append (' ');
+                final SysexBuilder builder = padInfos.isFast (note) ? flash : pulse;
+                if (builder.isEmpty ())
+                    builder.add (padInfos.isFast (note) ? 0x23 : 0x28);
+                builder.add (note).add (padInfos.getBlinkColor (note));
             }
         }
-
-        final List<String> result = new ArrayList<> (3);
-        final String sysExHeader = this.getSysExHeader ();
-        if (sbNormal.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("0A ").append (sbNormal).append ("F7").toString ());
-        if (sbFlash.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("23 ").append (sbFlash).append ("F7").toString ());
-        if (sbPulse.length () > 0)
-            result.add (new StringBuilder (sysExHeader).append ("28 ").append (sbPulse).append ("F7").toString ());
-        return result;
     }
 }
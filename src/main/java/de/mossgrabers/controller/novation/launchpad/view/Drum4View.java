@@ -28,6 +28,8 @@ public class Drum4View extends AbstractDrum4View<LaunchpadControlSurface, Launch
     public Drum4View (final LaunchpadControlSurface surface, final IModel model)
     {
         super (surface, model, true);
+
+        this.addObserverInterests (this.getClip ());
     }
 
 
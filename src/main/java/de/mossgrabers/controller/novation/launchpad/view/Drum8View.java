@@ -28,6 +28,8 @@ public class Drum8View extends AbstractDrum8View<LaunchpadControlSurface, Launch
     public Drum8View (final LaunchpadControlSurface surface, final IModel model)
     {
         super (surface, model, true);
+
+        this.addObserverInterests (this.getClip ());
     }
 
 
@@ -37,6 +37,8 @@ public class DrumView extends AbstractDrumExView<LaunchpadControlSurface, Launch
         this.buttonMute = ButtonID.PAD14;
         this.buttonSolo = ButtonID.PAD15;
         this.buttonBrowse = ButtonID.PAD16;
+
+        this.addObserverInterests (this.getClip ());
     }
 
 
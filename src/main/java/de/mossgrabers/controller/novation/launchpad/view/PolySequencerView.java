@@ -27,5 +27,7 @@ public class PolySequencerView extends AbstractPolySequencerView<LaunchpadContro
     public PolySequencerView (final LaunchpadControlSurface surface, final IModel model, final boolean useTrackColor)
     {
         super (surface, model, useTrackColor);
+
+        this.addObserverInterests (this.getClip ());
     }
 }
\ No newline at end of file
@@ -28,6 +28,8 @@ public class RaindropsView extends AbstractRaindropsView<LaunchpadControlSurface
     public RaindropsView (final LaunchpadControlSurface surface, final IModel model)
     {
         super ("Raindrops", surface, model, true);
+
+        this.addObserverInterests (this.getClip ());
     }
 
 
@@ -29,6 +29,8 @@ public class SequencerView extends AbstractNoteSequencerView<LaunchpadControlSur
     public SequencerView (final LaunchpadControlSurface surface, final IModel model)
     {
         super ("Sequencer", surface, model, true);
+
+        this.addObserverInterests (this.getClip ());
     }
 
 
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.controller.hardware.IHwTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -34,6 +35,7 @@ public class SLDisplay extends AbstractTextDisplay
 
     private final IHwTextDisplay hwTextDisplay1;
     private final IHwTextDisplay hwTextDisplay2;
+    private final SysexBuilder   sysexBuilder = new SysexBuilder (SLControlSurface.SYSEX_HEADER);
 
 
     /**
@@ -75,7 +77,7 @@ public class SLDisplay extends AbstractTextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = "         ";
+        this.setCellContent (row * this.noOfCells + column, "         ");
         return this;
     }
 
@@ -87,12 +89,12 @@ public class SLDisplay extends AbstractTextDisplay
         final int cell = 2 * block;
         if (value.length () > 9)
         {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = StringUtils.pad (value.substring (9), 8) + " ";
+            this.setCellContent (row * 8 + cell, value.substring (0, 9));
+            this.setCellContent (row * 8 + cell + 1, StringUtils.pad (value.substring (9), 8) + " ");
         }
         else
         {
-            this.cells[row * 8 + cell] = StringUtils.pad (value, 9);
+            this.setCellContent (row * 8 + cell, StringUtils.pad (value, 9));
             this.clearCell (row, cell + 1);
         }
         return this;
@@ -105,7 +107,7 @@ public class SLDisplay extends AbstractTextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, 8) + " ";
+            this.setCellContent (row * this.noOfCells + column, StringUtils.pad (value, 8) + " ");
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -119,11 +121,7 @@ public class SLDisplay extends AbstractTextDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final int length = text.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (SLControlSurface.SYSEX_HEADER + "02 01 00 " + uint7ToHex (ROW_MAP[row] + 1) + "04 " + StringUtils.toHexStr (array) + "00 F7");
+        this.sysexBuilder.add (0x02).add (0x01).add (0x00).add (ROW_MAP[row] + 1 & 0x7F).add (0x04).addAscii (text).add (0x00).send (this.output);
     }
 
 
@@ -135,14 +133,6 @@ public class SLDisplay extends AbstractTextDisplay
     }
 
 
-    private static String uint7ToHex (final int x)
-    {
-        final int upper = x >> 4 & 0x7;
-        final int lower = x & 0xF;
-        return Integer.toString (upper, 16) + Integer.toString (lower, 16) + " ";
-    }
-
-
     /**
      * Get the 1st hardware display.
      *
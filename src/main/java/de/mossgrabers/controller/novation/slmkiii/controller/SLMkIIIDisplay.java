@@ -8,6 +8,7 @@ import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.display.AbstractTextDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -18,27 +19,28 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class SLMkIIIDisplay extends AbstractTextDisplay
 {
-    private static final String  MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String  MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String  MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String  MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
+    private static final String MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01";
+    private static final int    MKIII_SYSEX_LAYOUT_COMMAND       = 0x01;
+    private static final int    MKIII_SYSEX_PROPERTY_COMMAND     = 0x02;
+    private static final int    MKIII_SYSEX_LED_COMMAND          = 0x03;
 
-    private static final String  MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
+    private static final int    MKIII_SYSEX_NOTIFICATION_COMMAND = 0x04;
 
     /** The empty layout. */
-    public static final Integer  SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
+    public static final Integer SCREEN_LAYOUT_EMPTY              = Integer.valueOf (0);
     /** The layout with knobs. */
-    public static final Integer  SCREEN_LAYOUT_KNOB               = Integer.valueOf (1);
+    public static final Integer SCREEN_LAYOUT_KNOB               = Integer.valueOf (1);
     /** The layout with larger selection boxes. */
-    public static final Integer  SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
+    public static final Integer SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
 
-    private static final Integer PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer PROPERTY_VALUE                   = Integer.valueOf (3);
+    private static final int    PROPERTY_TEXT                    = 1;
+    private static final int    PROPERTY_COLOR                   = 2;
+    private static final int    PROPERTY_VALUE                   = 3;
 
-    private final String []      ledCache                         = new String [8];
-    private final int [] []      displayColorCache                = new int [9] [4];
-    private final int [] []      displayValueCache                = new int [9] [4];
+    private final String []     ledCache                         = new String [8];
+    private final int [] []     displayColorCache                = new int [9] [4];
+    private final int [] []     displayValueCache                = new int [9] [4];
+    private final SysexBuilder  sysexBuilder                     = new SysexBuilder (MKIII_SYSEX_HEADER);
 
 
     /**
@@ -77,7 +79,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
      */
     public void setDisplayLayout (final Integer layout)
     {
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
+        this.sysexBuilder.add (MKIII_SYSEX_LAYOUT_COMMAND).add (layout.intValue ()).send (this.output);
         this.clearDisplayCache ();
         this.forceFlush ();
     }
@@ -105,7 +107,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
     public void setFaderLEDColor (final int led, final ColorEx color)
     {
         final int [] rgb = color.toIntRGB127 ();
-        this.output.sendSysex (String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), Integer.valueOf (rgb[0]), Integer.valueOf (rgb[1]), Integer.valueOf (rgb[2])));
+        this.sysexBuilder.add (MKIII_SYSEX_LED_COMMAND).add (led).add (0x01).add (rgb).send (this.output);
     }
 
 
@@ -122,7 +124,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
+        this.startProperty (PROPERTY_COLOR, hPosition, vPosition).add (color).send (this.output);
     }
 
 
@@ -139,8 +141,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
         String ascii = StringUtils.fixASCII (text);
         if (ascii.length () > 9)
             ascii = ascii.substring (0, 9);
-        final String value = StringUtils.toHexStr (ascii.getBytes ()) + "00";
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, value);
+        this.startProperty (PROPERTY_TEXT, hPosition, vPosition).addAscii (ascii).add (0x00).send (this.output);
     }
 
 
@@ -157,22 +158,22 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.startProperty (PROPERTY_VALUE, hPosition, vPosition).add (value).send (this.output);
     }
 
 
     /**
-     * Set a display property.
+     * Start a message to set a display property. The values need to be added to the returned
+     * builder.
      *
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
      * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @return The builder
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private SysexBuilder startProperty (final int property, final int hPosition, final int vPosition)
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        return this.sysexBuilder.add (MKIII_SYSEX_PROPERTY_COMMAND).add (hPosition).add (property).add (vPosition);
     }
 
 
@@ -195,9 +196,7 @@ public class SLMkIIIDisplay extends AbstractTextDisplay
             text2 = "";
         }
 
-        final String content = StringUtils.asciiToHex (text1) + "00 " + StringUtils.asciiToHex (text2) + "00";
-        final String msg = String.format (MKIII_SYSEX_NOTIFICATION_COMMAND, content);
-        this.output.sendSysex (msg);
+        this.sysexBuilder.add (MKIII_SYSEX_NOTIFICATION_COMMAND).addAscii (text1).add (0x00).addAscii (text2).add (0x00).send (this.output);
     }
 
 
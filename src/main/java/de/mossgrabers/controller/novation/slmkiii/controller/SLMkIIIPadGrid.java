@@ -6,6 +6,7 @@ package de.mossgrabers.controller.novation.slmkiii.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
 
@@ -43,19 +44,11 @@ public class SLMkIIIPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
         if (note > 43)
-            return new int []
-            {
-                15,
-                note + 52
-            };
-        return new int []
-        {
-            15,
-            note + 76
-        };
+            return TranslatedNote.create (15, note + 52);
+        return TranslatedNote.create (15, note + 76);
     }
 
 
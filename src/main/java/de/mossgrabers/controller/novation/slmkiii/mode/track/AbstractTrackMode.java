@@ -233,8 +233,7 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
         {
             if (t.isSelected ())
             {
-                final String colorIndex = DAWColor.getColorID (t.getColor ());
-                return this.model.getColorManager ().getColorIndex (colorIndex);
+                return this.model.getColorManager ().getColorIndex (DAWColor.getClosestColor (t.getColor ()));
             }
             return SLMkIIIColorManager.SLMKIII_WHITE_HALF;
         }
@@ -281,8 +280,7 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
             int color;
             if (t.isActivated ())
             {
-                final String colorIndex = DAWColor.getColorID (t.getColor ());
-                color = this.model.getColorManager ().getColorIndex (colorIndex);
+                color = this.model.getColorManager ().getColorIndex (DAWColor.getClosestColor (t.getColor ()));
             }
             else
                 color = SLMkIIIColorManager.SLMKIII_DARK_GREY;
@@ -348,8 +346,7 @@ public abstract class AbstractTrackMode extends BaseMode<ITrack>
         {
             if (track.isActivated ())
             {
-                final String colorIndex = DAWColor.getColorID (track.getColor ());
-                color = this.model.getColorManager ().getColorIndex (colorIndex);
+                color = this.model.getColorManager ().getColorIndex (DAWColor.getClosestColor (track.getColor ()));
             }
             else
                 color = SLMkIIIColorManager.SLMKIII_DARK_GREY;
@@ -97,6 +97,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         final IIntegerSetting sendPortSetting = globalSettings.getRangeSetting ("Port to send to (requires restart)", CATEGORY_SETUP, 1024, 65535, 1, "", 9000);
         this.sendPort = sendPortSetting.get ().intValue ();
 
+        this.activateMaxBundleSizeSetting (globalSettings, CATEGORY_SETUP);
+
         ///////////////////////////
         // Protocol
 
@@ -150,6 +152,7 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         // Debug
 
         this.activateOSCLogging (globalSettings);
+        this.activateFlushProfilingSetting (globalSettings);
     }
 
 
@@ -6,12 +6,12 @@ package de.mossgrabers.controller.osc.module;
 
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCCommandTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
-import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 
 import java.util.LinkedList;
@@ -64,6 +64,22 @@ public abstract class AbstractModule implements IModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public String [] getSentCommands ()
+    {
+        return this.getSupportedCommands ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void registerCommands (final OSCCommandTrie trie)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
@@ -178,18 +194,35 @@ public abstract class AbstractModule implements IModule
      * Flush all data of a parameter.
      *
      * @param writer Where to send the messages to
-     * @param fxAddress The start address for the effect
+     * @param addresses The addresses of the parameter
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    protected void flushParameterData (final IOpenSoundControlWriter writer, final String fxAddress, final IParameter fxParam, final boolean dump)
+    protected void flushParameterData (final IOpenSoundControlWriter writer, final ParameterAddresses addresses, final IParameter fxParam, final boolean dump)
     {
-        final boolean isSend = fxParam instanceof ISend;
+        writer.sendOSC (addresses.name, fxParam.getName (), dump);
+        writer.sendOSC (addresses.valueStr, fxParam.getDisplayedValue (), dump);
+        writer.sendOSC (addresses.value, fxParam.getValue (), dump);
+        writer.sendOSC (addresses.modulatedValue, fxParam.getModulatedValue (), dump);
+    }
 
-        writer.sendOSC (fxAddress + TAG_NAME, fxParam.getName (), dump);
-        writer.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        writer.sendOSC (fxAddress + (isSend ? TAG_VOLUME : "value"), fxParam.getValue (), dump);
-        writer.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+
+    /**
+     * Create the addresses for all parameters of a bank.
+     *
+     * @param writer The writer which registers the addresses
+     * @param bankAddress The start address of the bank, the number of the parameter (starting
+     *            with 1) is appended
+     * @param size The number of parameters in the bank
+     * @param isSend True if the parameters are sends
+     * @return The addresses
+     */
+    protected static ParameterAddresses [] createParameterAddresses (final IOpenSoundControlWriter writer, final String bankAddress, final int size, final boolean isSend)
+    {
+        final ParameterAddresses [] addresses = new ParameterAddresses [size];
+        for (int i = 0; i < size; i++)
+            addresses[i] = new ParameterAddresses (writer, bankAddress + (i + 1) + "/", isSend);
+        return addresses;
     }
 
 
@@ -203,4 +236,78 @@ public abstract class AbstractModule implements IModule
             return Optional.of (new ColorEx (Double.parseDouble (matcher.group (2)) / 255.0, Double.parseDouble (matcher.group (4)) / 255.0, Double.parseDouble (matcher.group (6)) / 255.0));
         return Optional.empty ();
     }
+
+
+    /**
+     * The IDs of the OSC addresses of a parameter.
+     */
+    protected static class ParameterAddresses
+    {
+        final int name;
+        final int valueStr;
+        final int value;
+        final int modulatedValue;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which registers the addresses
+         * @param address The start address of the parameter
+         * @param isSend True if the parameter is a send
+         */
+        ParameterAddresses (final IOpenSoundControlWriter writer, final String address, final boolean isSend)
+        {
+            this.name = writer.getAddressID (address + TAG_NAME);
+            this.valueStr = writer.getAddressID (address + (isSend ? "volumeStr" : "valueStr"));
+            this.value = writer.getAddressID (address + (isSend ? TAG_VOLUME : "value"));
+            this.modulatedValue = writer.getAddressID (address + "modulatedValue");
+        }
+    }
+
+
+    /**
+     * The IDs of the OSC addresses of a channel (track or layer).
+     */
+    protected static class ChannelAddresses
+    {
+        final int                   exists;
+        final int                   activated;
+        final int                   selected;
+        final int                   name;
+        final int                   volumeStr;
+        final int                   volume;
+        final int                   panStr;
+        final int                   pan;
+        final int                   mute;
+        final int                   solo;
+        final int                   vu;
+        final int                   color;
+        final ParameterAddresses [] sends;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which registers the addresses
+         * @param address The start address of the channel
+         * @param numSends The number of sends of the channel
+         */
+        ChannelAddresses (final IOpenSoundControlWriter writer, final String address, final int numSends)
+        {
+            this.exists = writer.getAddressID (address + TAG_EXISTS);
+            this.activated = writer.getAddressID (address + "activated");
+            this.selected = writer.getAddressID (address + TAG_SELECTED);
+            this.name = writer.getAddressID (address + TAG_NAME);
+            this.volumeStr = writer.getAddressID (address + "volumeStr");
+            this.volume = writer.getAddressID (address + TAG_VOLUME);
+            this.panStr = writer.getAddressID (address + "panStr");
+            this.pan = writer.getAddressID (address + "pan");
+            this.mute = writer.getAddressID (address + "mute");
+            this.solo = writer.getAddressID (address + "solo");
+            this.vu = writer.getAddressID (address + "vu");
+            this.color = writer.getAddressID (address + TAG_COLOR);
+            this.sends = createParameterAddresses (writer, address + "send/", numSends, true);
+        }
+    }
 }
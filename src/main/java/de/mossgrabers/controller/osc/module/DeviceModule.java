@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCCommandTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
@@ -42,7 +43,21 @@ import java.util.Optional;
  */
 public class DeviceModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final String [] BAND_TYPE_NAMES = new String [EqualizerBandType.values ().length];
+
+    static
+    {
+        for (final EqualizerBandType type: EqualizerBandType.values ())
+            BAND_TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase ();
+    }
+
+    private final OSCConfiguration    configuration;
+    private final DeviceAddresses     cursorDeviceAddresses;
+    private final DeviceAddresses     primaryDeviceAddresses;
+    private final DeviceAddresses     eqDeviceAddresses;
+    private final ChannelAddresses [] drumPadAddresses;
+    private final ChannelAddresses [] layerAddresses;
+    private final ChannelAddresses    selectedLayerAddresses;
 
 
     /**
@@ -58,6 +73,16 @@ public class DeviceModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        final ICursorDevice cursorDevice = model.getCursorDevice ();
+        this.cursorDeviceAddresses = new DeviceAddresses (writer, "/device/", cursorDevice);
+        this.primaryDeviceAddresses = new DeviceAddresses (writer, "/primary/", model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT));
+        this.eqDeviceAddresses = new DeviceAddresses (writer, "/eq/", model.getSpecificDevice (DeviceID.EQ));
+
+        this.drumPadAddresses = createLayerAddresses (writer, "/device/drumpad/", cursorDevice.getDrumPadBank ());
+        final ILayerBank layerBank = cursorDevice.getLayerBank ();
+        this.layerAddresses = createLayerAddresses (writer, "/device/layer/", layerBank);
+        this.selectedLayerAddresses = new ChannelAddresses (writer, "/device/layer/selected/", getNumSends (layerBank));
     }
 
 
@@ -100,27 +125,71 @@ public class DeviceModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerCommands (final OSCCommandTrie trie)
+    {
+        registerParameterCommands (trie, "/device/", this.model.getCursorDevice ());
+        registerParameterCommands (trie, "/primary/", this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT));
+        registerParameterCommands (trie, "/eq/", this.model.getSpecificDevice (DeviceID.EQ));
+    }
+
+
+    /**
+     * Register the commands for changing the value of the parameters of a device.
+     *
+     * @param trie The command trie
+     * @param devicePattern The address pattern of the device, ends with a slash
+     * @param device The device
+     */
+    private static void registerParameterCommands (final OSCCommandTrie trie, final String devicePattern, final ISpecificDevice device)
+    {
+        final IParameterBank parameterBank = device.getParameterBank ();
+        final String paramPattern = devicePattern + TAG_PARAM + "/" + OSCCommandTrie.NUMBER + "/";
+        trie.register (paramPattern + "value", (numbers, value) -> parameterBank.getItem (numbers[0] - 1).setValue (toInteger (value)));
+        trie.register (paramPattern + TAG_TOUCHED, (numbers, value) -> parameterBank.getItem (numbers[0] - 1).touchValue (isTrigger (value)));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
+    {
+        // Skip the devices and layers to which no client is subscribed
+        if (this.writer.isSubscribed ("/device"))
+            this.flushCursorDevice (dump);
+        if (this.writer.isSubscribed ("/primary"))
+            this.flushDevice (this.writer, this.primaryDeviceAddresses, this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
+        if (this.writer.isSubscribed ("/eq"))
+            this.flushDevice (this.writer, this.eqDeviceAddresses, this.model.getSpecificDevice (DeviceID.EQ), dump);
+    }
+
+
+    /**
+     * Flush all data of the cursor device and its layers.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushCursorDevice (final boolean dump)
     {
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice (this.writer, "/device/", cd, dump);
+        this.flushDevice (this.writer, this.cursorDeviceAddresses, cd, dump);
         this.writer.sendOSC ("/device/pinned", cd.isPinned (), dump);
-        if (cd.hasDrumPads ())
+        if (cd.hasDrumPads () && this.writer.isSubscribed ("/device/drumpad"))
         {
             final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
-            for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayer (this.writer, "/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+            final int numDrumPads = Math.min (drumPadBank.getPageSize (), this.drumPadAddresses.length);
+            for (int i = 0; i < numDrumPads; i++)
+                this.flushDeviceLayer (this.writer, this.drumPadAddresses[i], drumPadBank.getItem (i), dump);
         }
+        if (!this.writer.isSubscribed ("/device/layer"))
+            return;
         final ILayerBank layerBank = cd.getLayerBank ();
-        for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayer (this.writer, "/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
+        final int numLayers = Math.min (layerBank.getPageSize (), this.layerAddresses.length);
+        for (int i = 0; i < numLayers; i++)
+            this.flushDeviceLayer (this.writer, this.layerAddresses[i], layerBank.getItem (i), dump);
         final Optional<ILayer> selectedLayer = layerBank.getSelectedItem ();
-        this.flushDeviceLayer (this.writer, "/device/layer/selected/", selectedLayer.isEmpty () ? EmptyLayer.INSTANCE : selectedLayer.get (), dump);
-
-        this.flushDevice (this.writer, "/primary/", this.model.getSpecificDevice (DeviceID.FIRST_INSTRUMENT), dump);
-        this.flushDevice (this.writer, "/eq/", this.model.getSpecificDevice (DeviceID.EQ), dump);
+        this.flushDeviceLayer (this.writer, this.selectedLayerAddresses, selectedLayer.isEmpty () ? EmptyLayer.INSTANCE : selectedLayer.get (), dump);
     }
 
 
@@ -128,29 +197,29 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param addresses The addresses of the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final IOpenSoundControlWriter writer, final String deviceAddress, final ISpecificDevice device, final boolean dump)
+    private void flushDevice (final IOpenSoundControlWriter writer, final DeviceAddresses addresses, final ISpecificDevice device, final boolean dump)
     {
-        writer.sendOSC (deviceAddress + TAG_EXISTS, device.doesExist (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, device.getName (), dump);
-        writer.sendOSC (deviceAddress + "bypass", !device.isEnabled (), dump);
-        writer.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        writer.sendOSC (deviceAddress + "parameters", device.isParameterPageSectionVisible (), dump);
-        writer.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        writer.sendOSC (addresses.exists, device.doesExist (), dump);
+        writer.sendOSC (addresses.name, device.getName (), dump);
+        writer.sendOSC (addresses.bypass, !device.isEnabled (), dump);
+        writer.sendOSC (addresses.expand, device.isExpanded (), dump);
+        writer.sendOSC (addresses.parameters, device.isParameterPageSectionVisible (), dump);
+        writer.sendOSC (addresses.window, device.isWindowOpen (), dump);
 
         if (device instanceof final IEqualizerDevice equalizer)
         {
-            for (int i = 0; i < equalizer.getBandCount (); i++)
+            final int numBands = Math.min (equalizer.getBandCount (), addresses.bands.length);
+            for (int i = 0; i < numBands; i++)
             {
-                final int oneplus = i + 1;
-
-                writer.sendOSC (deviceAddress + "type/" + oneplus + "/value", equalizer.getTypeID (i).name ().toLowerCase (), dump);
-                this.flushParameterData (writer, deviceAddress + "gain/" + oneplus + "/", equalizer.getGainParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "freq/" + oneplus + "/", equalizer.getFrequencyParameter (i), dump);
-                this.flushParameterData (writer, deviceAddress + "q/" + oneplus + "/", equalizer.getQParameter (i), dump);
+                final BandAddresses bandAddresses = addresses.bands[i];
+                writer.sendOSC (bandAddresses.type, BAND_TYPE_NAMES[equalizer.getTypeID (i).ordinal ()], dump);
+                this.flushParameterData (writer, bandAddresses.gain, equalizer.getGainParameter (i), dump);
+                this.flushParameterData (writer, bandAddresses.frequency, equalizer.getFrequencyParameter (i), dump);
+                this.flushParameterData (writer, bandAddresses.q, equalizer.getQParameter (i), dump);
             }
             return;
         }
@@ -159,38 +228,36 @@ public class DeviceModule extends AbstractModule
         {
             final int positionInBank = device.getIndex ();
             final IDeviceBank deviceBank = cursorDevice.getDeviceBank ();
-            for (int i = 0; i < deviceBank.getPageSize (); i++)
+            final int numSiblings = Math.min (deviceBank.getPageSize (), addresses.siblings.length);
+            for (int i = 0; i < numSiblings; i++)
             {
-                final int oneplus = i + 1;
                 final IDevice siblingDevice = deviceBank.getItem (i);
-                final String siblingAddress = deviceAddress + "sibling/" + oneplus + "/";
-                writer.sendOSC (siblingAddress + TAG_EXISTS, siblingDevice.doesExist (), dump);
-                writer.sendOSC (siblingAddress + TAG_NAME, siblingDevice.getName (), dump);
-                writer.sendOSC (siblingAddress + "bypass", !siblingDevice.isEnabled (), dump);
-                writer.sendOSC (siblingAddress + TAG_SELECTED, i == positionInBank, dump);
+                final SiblingAddresses siblingAddresses = addresses.siblings[i];
+                writer.sendOSC (siblingAddresses.exists, siblingDevice.doesExist (), dump);
+                writer.sendOSC (siblingAddresses.name, siblingDevice.getName (), dump);
+                writer.sendOSC (siblingAddresses.bypass, !siblingDevice.isEnabled (), dump);
+                writer.sendOSC (siblingAddresses.selected, i == positionInBank, dump);
             }
         }
 
         final IParameterBank parameterBank = device.getParameterBank ();
-        for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (writer, deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+        final int numParameters = Math.min (parameterBank.getPageSize (), addresses.parameterValues.length);
+        for (int i = 0; i < numParameters; i++)
+            this.flushParameterData (writer, addresses.parameterValues[i], parameterBank.getItem (i), dump);
 
         final IParameterPageBank parameterPageBank = device.getParameterPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
-        for (int i = 0; i < parameterPageBank.getPageSize (); i++)
+        final int numPages = Math.min (parameterPageBank.getPageSize (), addresses.pages.length);
+        for (int i = 0; i < numPages; i++)
         {
-            final int oneplus = i + 1;
             final String pageName = parameterPageBank.getItem (i);
-            final String pageAddress = deviceAddress + "page/" + oneplus + "/";
-            writer.sendOSC (pageAddress, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_NAME, pageName, dump);
-            writer.sendOSC (pageAddress + TAG_SELECTED, selectedParameterPage == i, dump);
+            final PageAddresses pageAddresses = addresses.pages[i];
+            writer.sendOSC (pageAddresses.page, pageName, dump);
+            writer.sendOSC (pageAddresses.name, pageName, dump);
+            writer.sendOSC (pageAddresses.selected, selectedParameterPage == i, dump);
         }
         final Optional<String> selectedItem = parameterPageBank.getSelectedItem ();
-        writer.sendOSC (deviceAddress + "page/selected/" + TAG_NAME, selectedItem.isPresent () ? selectedItem.get () : "", dump);
+        writer.sendOSC (addresses.selectedPageName, selectedItem.isPresent () ? selectedItem.get () : "", dump);
     }
 
 
@@ -198,35 +265,66 @@ public class DeviceModule extends AbstractModule
      * Flush all data of a device layer.
      *
      * @param writer Where to send the messages to
-     * @param deviceAddress The start address for the device
+     * @param addresses The addresses of the layer
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayer (final IOpenSoundControlWriter writer, final ChannelAddresses addresses, final IChannel channel, final boolean dump)
     {
         if (channel == null)
             return;
 
-        writer.sendOSC (deviceAddress + TAG_EXISTS, channel.doesExist (), dump);
-        writer.sendOSC (deviceAddress + "activated", channel.isActivated (), dump);
-        writer.sendOSC (deviceAddress + TAG_SELECTED, channel.isSelected (), dump);
-        writer.sendOSC (deviceAddress + TAG_NAME, channel.getName (), dump);
-        writer.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        writer.sendOSC (deviceAddress + TAG_VOLUME, channel.getVolume (), dump);
-        writer.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        writer.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        writer.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        writer.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        writer.sendOSC (addresses.exists, channel.doesExist (), dump);
+        writer.sendOSC (addresses.activated, channel.isActivated (), dump);
+        writer.sendOSC (addresses.selected, channel.isSelected (), dump);
+        writer.sendOSC (addresses.name, channel.getName (), dump);
+        writer.sendOSC (addresses.volumeStr, channel.getVolumeStr (), dump);
+        writer.sendOSC (addresses.volume, channel.getVolume (), dump);
+        writer.sendOSC (addresses.panStr, channel.getPanStr (), dump);
+        writer.sendOSC (addresses.pan, channel.getPan (), dump);
+        writer.sendOSC (addresses.mute, channel.isMute (), dump);
+        writer.sendOSC (addresses.solo, channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
-        for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+        final int numSends = Math.min (sendBank.getPageSize (), addresses.sends.length);
+        for (int i = 0; i < numSends; i++)
+            this.flushParameterData (writer, addresses.sends[i], sendBank.getItem (i), dump);
 
         if (this.configuration.isEnableVUMeters ())
-            writer.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            writer.sendOSC (addresses.vu, channel.getVu (), dump);
 
         final ColorEx color = channel.getColor ();
-        writer.sendOSCColor (deviceAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (addresses.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
+    }
+
+
+    /**
+     * Create the addresses for all layers of a bank.
+     *
+     * @param writer The writer which registers the addresses
+     * @param bankAddress The start address of the bank
+     * @param layerBank The layer bank
+     * @return The addresses
+     */
+    private static ChannelAddresses [] createLayerAddresses (final IOpenSoundControlWriter writer, final String bankAddress, final ILayerBank layerBank)
+    {
+        final int numSends = getNumSends (layerBank);
+        final ChannelAddresses [] addresses = new ChannelAddresses [layerBank.getPageSize ()];
+        for (int i = 0; i < addresses.length; i++)
+            addresses[i] = new ChannelAddresses (writer, bankAddress + (i + 1) + "/", numSends);
+        return addresses;
+    }
+
+
+    /**
+     * Get the number of sends of the layers of a bank.
+     *
+     * @param layerBank The layer bank
+     * @return The number of sends
+     */
+    private static int getNumSends (final ILayerBank layerBank)
+    {
+        return layerBank.getPageSize () == 0 ? 0 : layerBank.getItem (0).getSendBank ().getPageSize ();
     }
 
 
@@ -647,4 +745,140 @@ public class DeviceModule extends AbstractModule
                 throw new UnknownCommandException (command);
         }
     }
+
+
+    /**
+     * The IDs of the OSC addresses of a device.
+     */
+    private static class DeviceAddresses
+    {
+        final int                   exists;
+        final int                   name;
+        final int                   bypass;
+        final int                   expand;
+        final int                   parameters;
+        final int                   window;
+        final int                   selectedPageName;
+        final ParameterAddresses [] parameterValues;
+        final PageAddresses []      pages;
+        final SiblingAddresses []   siblings;
+        final BandAddresses []      bands;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which registers the addresses
+         * @param address The start address of the device
+         * @param device The device from which to get the number of parameters, pages, siblings and
+         *            bands
+         */
+        DeviceAddresses (final IOpenSoundControlWriter writer, final String address, final ISpecificDevice device)
+        {
+            this.exists = writer.getAddressID (address + TAG_EXISTS);
+            this.name = writer.getAddressID (address + TAG_NAME);
+            this.bypass = writer.getAddressID (address + "bypass");
+            this.expand = writer.getAddressID (address + "expand");
+            this.parameters = writer.getAddressID (address + "parameters");
+            this.window = writer.getAddressID (address + "window");
+            this.selectedPageName = writer.getAddressID (address + "page/selected/" + TAG_NAME);
+
+            this.parameterValues = createParameterAddresses (writer, address + "param/", device.getParameterBank ().getPageSize (), false);
+
+            final int numPages = device.getParameterPageBank ().getPageSize ();
+            this.pages = new PageAddresses [numPages];
+            for (int i = 0; i < numPages; i++)
+                this.pages[i] = new PageAddresses (writer, address + "page/" + (i + 1) + "/");
+
+            final int numSiblings = device instanceof final ICursorDevice cursorDevice ? cursorDevice.getDeviceBank ().getPageSize () : 0;
+            this.siblings = new SiblingAddresses [numSiblings];
+            for (int i = 0; i < numSiblings; i++)
+                this.siblings[i] = new SiblingAddresses (writer, address + "sibling/" + (i + 1) + "/");
+
+            final int numBands = device instanceof final IEqualizerDevice equalizer ? equalizer.getBandCount () : 0;
+            this.bands = new BandAddresses [numBands];
+            for (int i = 0; i < numBands; i++)
+                this.bands[i] = new BandAddresses (writer, address, i + 1);
+        }
+    }
+
+
+    /**
+     * The IDs of the OSC addresses of a parameter page.
+     */
+    private static class PageAddresses
+    {
+        final int page;
+        final int name;
+        final int selected;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which registers the addresses
+         * @param address The start address of the page
+         */
+        PageAddresses (final IOpenSoundControlWriter writer, final String address)
+        {
+            this.page = writer.getAddressID (address);
+            this.name = writer.getAddressID (address + TAG_NAME);
+            this.selected = writer.getAddressID (address + TAG_SELECTED);
+        }
+    }
+
+
+    /**
+     * The IDs of the OSC addresses of a sibling device.
+     */
+    private static class SiblingAddresses
+    {
+        final int exists;
+        final int name;
+        final int bypass;
+        final int selected;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which registers the addresses
+         * @param address The start address of the sibling
+         */
+        SiblingAddresses (final IOpenSoundControlWriter writer, final String address)
+        {
+            this.exists = writer.getAddressID (address + TAG_EXISTS);
+            this.name = writer.getAddressID (address + TAG_NAME);
+            this.bypass = writer.getAddressID (address + "bypass");
+            this.selected = writer.getAddressID (address + TAG_SELECTED);
+        }
+    }
+
+
+    /**
+     * The IDs of the OSC addresses of an equalizer band.
+     */
+    private static class BandAddresses
+    {
+        final int                type;
+        final ParameterAddresses gain;
+        final ParameterAddresses frequency;
+        final ParameterAddresses q;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which registers the addresses
+         * @param deviceAddress The start address of the equalizer device
+         * @param band The number of the band (starting with 1)
+         */
+        BandAddresses (final IOpenSoundControlWriter writer, final String deviceAddress, final int band)
+        {
+            this.type = writer.getAddressID (deviceAddress + "type/" + band + "/value");
+            this.gain = new ParameterAddresses (writer, deviceAddress + "gain/" + band + "/", false);
+            this.frequency = new ParameterAddresses (writer, deviceAddress + "freq/" + band + "/", false);
+            this.q = new ParameterAddresses (writer, deviceAddress + "q/" + band + "/", false);
+        }
+    }
 }
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCCommandTrie;
 
 import java.util.LinkedList;
 
@@ -26,6 +27,15 @@ public interface IModule
     String [] getSupportedCommands ();
 
 
+    /**
+     * Get the first parts of the addresses which are sent by this module on flush. Used to skip
+     * flushing the module if no client subscribed to any of its addresses.
+     *
+     * @return The first parts of the addresses
+     */
+    String [] getSentCommands ();
+
+
     /**
      * Parse and execute an OSC command.
      *
@@ -39,6 +49,16 @@ public interface IModule
     void execute (String command, LinkedList<String> path, Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException;
 
 
+    /**
+     * Register the commands for frequently sent addresses (e.g. of faders) with the command trie.
+     * Messages with these addresses are dispatched via the trie, all other messages are handled by
+     * the execute method.
+     *
+     * @param trie The command trie
+     */
+    void registerCommands (OSCCommandTrie trie);
+
+
     /**
      * Send all related data of this module via OSC messages.
      *
@@ -24,6 +24,11 @@ import java.util.LinkedList;
  */
 public class MarkerModule extends AbstractModule
 {
+    private final int [] existsAddresses;
+    private final int [] nameAddresses;
+    private final int [] colorAddresses;
+
+
     /**
      * Constructor.
      *
@@ -34,6 +39,18 @@ public class MarkerModule extends AbstractModule
     public MarkerModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        final int numMarkers = model.getMarkerBank ().getPageSize ();
+        this.existsAddresses = new int [numMarkers];
+        this.nameAddresses = new int [numMarkers];
+        this.colorAddresses = new int [numMarkers];
+        for (int i = 0; i < numMarkers; i++)
+        {
+            final String markerAddress = "/marker/" + (i + 1) + "/";
+            this.existsAddresses[i] = writer.getAddressID (markerAddress + "exists");
+            this.nameAddresses[i] = writer.getAddressID (markerAddress + TAG_NAME);
+            this.colorAddresses[i] = writer.getAddressID (markerAddress + "color");
+        }
     }
 
 
@@ -94,14 +111,14 @@ public class MarkerModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final IMarkerBank markerBank = this.model.getMarkerBank ();
-        for (int i = 0; i < markerBank.getPageSize (); i++)
+        final int numMarkers = Math.min (markerBank.getPageSize (), this.existsAddresses.length);
+        for (int i = 0; i < numMarkers; i++)
         {
-            final String markerAddress = "/marker/" + (i + 1) + "/";
             final IMarker marker = markerBank.getItem (i);
-            this.writer.sendOSC (markerAddress + "exists", marker.doesExist (), dump);
-            this.writer.sendOSC (markerAddress + TAG_NAME, marker.getName (), dump);
+            this.writer.sendOSC (this.existsAddresses[i], marker.doesExist (), dump);
+            this.writer.sendOSC (this.nameAddresses[i], marker.getName (), dump);
             final ColorEx color = marker.getColor ();
-            this.writer.sendOSCColor (markerAddress + "color", color.getRed (), color.getGreen (), color.getBlue (), dump);
+            this.writer.sendOSCColor (this.colorAddresses[i], color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
     }
 }
\ No newline at end of file
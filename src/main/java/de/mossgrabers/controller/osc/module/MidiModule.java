@@ -36,6 +36,7 @@ public class MidiModule extends AbstractModule
 {
     private final KeyManager                        keyManager;
     private final IControlSurface<OSCConfiguration> surface;
+    private final int []                            noteColorAddresses = new int [127];
 
 
     /**
@@ -54,6 +55,9 @@ public class MidiModule extends AbstractModule
         this.surface = surface;
         this.keyManager = keyManager;
 
+        for (int i = 0; i < this.noteColorAddresses.length; i++)
+            this.noteColorAddresses[i] = writer.getAddressID ("/vkb_midi/note/" + i + "/color");
+
         this.updateNoteMatrix (model.getScales ());
     }
 
@@ -84,11 +88,10 @@ public class MidiModule extends AbstractModule
     @Override
     public void flush (final boolean dump)
     {
-        final String noteAddress = "/vkb_midi/note/";
-        for (int i = 0; i < 127; i++)
+        for (int i = 0; i < this.noteColorAddresses.length; i++)
         {
-            final double [] color = this.getNoteColor (i).toDoubleRGB ();
-            this.writer.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            final ColorEx color = this.getNoteColor (i);
+            this.writer.sendOSCColor (this.noteColorAddresses[i], color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         // Flush note repeat
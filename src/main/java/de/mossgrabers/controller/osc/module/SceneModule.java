@@ -24,6 +24,12 @@ import java.util.LinkedList;
  */
 public class SceneModule extends AbstractModule
 {
+    private final int [] existsAddresses;
+    private final int [] nameAddresses;
+    private final int [] selectedAddresses;
+    private final int [] colorAddresses;
+
+
     /**
      * Constructor.
      *
@@ -34,6 +40,20 @@ public class SceneModule extends AbstractModule
     public SceneModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        final int numScenes = model.getSceneBank ().getPageSize ();
+        this.existsAddresses = new int [numScenes];
+        this.nameAddresses = new int [numScenes];
+        this.selectedAddresses = new int [numScenes];
+        this.colorAddresses = new int [numScenes];
+        for (int i = 0; i < numScenes; i++)
+        {
+            final String sceneAddress = "/scene/" + (i + 1) + "/";
+            this.existsAddresses[i] = writer.getAddressID (sceneAddress + TAG_EXISTS);
+            this.nameAddresses[i] = writer.getAddressID (sceneAddress + TAG_NAME);
+            this.selectedAddresses[i] = writer.getAddressID (sceneAddress + TAG_SELECTED);
+            this.colorAddresses[i] = writer.getAddressID (sceneAddress + TAG_COLOR);
+        }
     }
 
 
@@ -127,18 +147,18 @@ public class SceneModule extends AbstractModule
     public void flush (final boolean dump)
     {
         final ISceneBank sceneBank = this.model.getSceneBank ();
-        for (int i = 0; i < sceneBank.getPageSize (); i++)
+        final int numScenes = Math.min (sceneBank.getPageSize (), this.existsAddresses.length);
+        for (int i = 0; i < numScenes; i++)
         {
             final IScene scene = sceneBank.getItem (i);
-            final String sceneAddress = "/scene/" + (i + 1) + "/";
-            this.writer.sendOSC (sceneAddress + TAG_EXISTS, scene.doesExist (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_NAME, scene.getName (), dump);
-            this.writer.sendOSC (sceneAddress + TAG_SELECTED, scene.isSelected (), dump);
+            this.writer.sendOSC (this.existsAddresses[i], scene.doesExist (), dump);
+            this.writer.sendOSC (this.nameAddresses[i], scene.getName (), dump);
+            this.writer.sendOSC (this.selectedAddresses[i], scene.isSelected (), dump);
 
             ColorEx color = scene.getColor ();
             if (color == null)
                 color = ColorEx.BLACK;
-            this.writer.sendOSCColor (sceneAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            this.writer.sendOSCColor (this.colorAddresses[i], color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
     }
 }
@@ -8,6 +8,7 @@ import de.mossgrabers.controller.osc.OSCConfiguration;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCCommandTrie;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IHost;
@@ -25,6 +26,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import java.util.LinkedList;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.function.Function;
 
 
 /**
@@ -34,7 +36,18 @@ import java.util.Optional;
  */
 public class TrackModule extends AbstractModule
 {
-    private final OSCConfiguration configuration;
+    private static final String [] CHANNEL_TYPE_NAMES = new String [ChannelType.values ().length];
+
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            CHANNEL_TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase (Locale.US);
+    }
+
+    private final OSCConfiguration  configuration;
+    private final TrackAddresses [] trackAddresses;
+    private final TrackAddresses    masterAddresses;
+    private final TrackAddresses    selectedTrackAddresses;
 
 
     /**
@@ -50,6 +63,16 @@ public class TrackModule extends AbstractModule
         super (host, model, writer);
 
         this.configuration = configuration;
+
+        final ITrackBank trackBank = model.getTrackBank ();
+        final ITrackBank effectTrackBank = model.getEffectTrackBank ();
+        final int numTracks = Math.max (trackBank.getPageSize (), effectTrackBank == null ? 0 : effectTrackBank.getPageSize ());
+        final ITrack firstTrack = trackBank.getItem (0);
+        this.trackAddresses = new TrackAddresses [numTracks];
+        for (int i = 0; i < numTracks; i++)
+            this.trackAddresses[i] = new TrackAddresses (writer, "/track/" + (i + 1) + "/", firstTrack);
+        this.masterAddresses = new TrackAddresses (writer, "/master/", model.getMasterTrack ());
+        this.selectedTrackAddresses = new TrackAddresses (writer, "/track/selected/", model.getCursorTrack ());
     }
 
 
@@ -94,16 +117,88 @@ public class TrackModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void registerCommands (final OSCCommandTrie trie)
+    {
+        this.registerTrackCommands (trie, "/track/" + OSCCommandTrie.NUMBER + "/", numbers -> this.model.getCurrentTrackBank ().getItem (numbers[0] - 1));
+        this.registerTrackCommands (trie, "/master/", numbers -> this.model.getMasterTrack ());
+        this.registerTrackCommands (trie, "/track/selected/", numbers -> {
+            final ITrack cursorTrack = this.model.getCursorTrack ();
+            return cursorTrack.doesExist () ? cursorTrack : null;
+        });
+    }
+
+
+    /**
+     * Register the commands for the volume, panorama and send faders of a track.
+     *
+     * @param trie The command trie
+     * @param trackPattern The address pattern of the track, ends with a slash
+     * @param trackProvider Provides the track for the numbers of the matched address, returns null
+     *            if the commands should be ignored
+     */
+    private void registerTrackCommands (final OSCCommandTrie trie, final String trackPattern, final Function<int [], ITrack> trackProvider)
+    {
+        trie.register (trackPattern + TAG_VOLUME, (numbers, value) -> {
+            final ITrack track = trackProvider.apply (numbers);
+            if (track != null)
+                track.setVolume (toInteger (value));
+        });
+        trie.register (trackPattern + TAG_VOLUME + "/" + TAG_TOUCHED, (numbers, value) -> {
+            final ITrack track = trackProvider.apply (numbers);
+            if (track != null)
+                track.touchVolume (isTrigger (value));
+        });
+        trie.register (trackPattern + "pan", (numbers, value) -> {
+            final ITrack track = trackProvider.apply (numbers);
+            if (track != null)
+                track.setPan (toInteger (value));
+        });
+        trie.register (trackPattern + "pan/" + TAG_TOUCHED, (numbers, value) -> {
+            final ITrack track = trackProvider.apply (numbers);
+            if (track != null)
+                track.touchPan (isTrigger (value));
+        });
+
+        // The send number follows the number of the track, if any
+        final int sendNumberIndex = trackPattern.contains (OSCCommandTrie.NUMBER) ? 1 : 0;
+        final String sendPattern = trackPattern + "send/" + OSCCommandTrie.NUMBER + "/" + TAG_VOLUME;
+        trie.register (sendPattern, (numbers, value) -> {
+            final ISend send = getSend (trackProvider.apply (numbers), numbers[sendNumberIndex] - 1);
+            if (send != null)
+                send.setValue (toInteger (value));
+        });
+        trie.register (sendPattern + "/" + TAG_TOUCHED, (numbers, value) -> {
+            final ISend send = getSend (trackProvider.apply (numbers), numbers[sendNumberIndex] - 1);
+            if (send != null)
+                send.touchValue (isTrigger (value));
+        });
+    }
+
+
+    private static ISend getSend (final ITrack track, final int sendIndex)
+    {
+        return track == null ? null : track.getSendBank ().getItem (sendIndex);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush (final boolean dump)
     {
+        // Skip the tracks and clips to which no client is subscribed
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack (this.writer, "/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack (this.writer, "/master/", this.model.getMasterTrack (), dump);
-        final ICursorTrack cursorTrack = this.model.getCursorTrack ();
-        this.flushTrack (this.writer, "/track/selected/", cursorTrack, dump);
+        if (this.writer.isSubscribed ("/track/*"))
+        {
+            final boolean flushClips = this.writer.isSubscribed ("/track/*/clip");
+            for (int i = 0; i < trackBank.getPageSize (); i++)
+                this.flushTrack (this.writer, this.trackAddresses[i], trackBank.getItem (i), flushClips, dump);
+        }
+        if (this.writer.isSubscribed ("/master"))
+            this.flushTrack (this.writer, this.masterAddresses, this.model.getMasterTrack (), this.writer.isSubscribed ("/master/clip"), dump);
+        if (this.writer.isSubscribed ("/track/selected"))
+            this.flushTrack (this.writer, this.selectedTrackAddresses, this.model.getCursorTrack (), this.writer.isSubscribed ("/track/selected/clip"), dump);
         this.writer.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
         this.writer.sendOSC ("/track/hasParent", trackBank.hasParent (), dump);
     }
@@ -113,66 +208,69 @@ public class TrackModule extends AbstractModule
      * Flush all data of a track.
      *
      * @param writer Where to send the messages to
-     * @param trackAddress The start address for the track
+     * @param addresses The addresses of the track
      * @param track The track
+     * @param flushClips Flush the clips of the track if true
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final IOpenSoundControlWriter writer, final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final IOpenSoundControlWriter writer, final TrackAddresses addresses, final ITrack track, final boolean flushClips, final boolean dump)
     {
-        writer.sendOSC (trackAddress + TAG_EXISTS, track.doesExist (), dump);
+        writer.sendOSC (addresses.exists, track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        writer.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (Locale.US), dump);
-        writer.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        writer.sendOSC (trackAddress + TAG_SELECTED, track.isSelected (), dump);
-        writer.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        writer.sendOSC (trackAddress + TAG_NAME, track.getName (), dump);
-        writer.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        writer.sendOSC (trackAddress + TAG_VOLUME, track.getVolume (), dump);
-        writer.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        writer.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        writer.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        writer.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        writer.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        writer.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        writer.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        writer.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        writer.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        writer.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        writer.sendOSC (addresses.type, type == null ? null : CHANNEL_TYPE_NAMES[type.ordinal ()], dump);
+        writer.sendOSC (addresses.activated, track.isActivated (), dump);
+        writer.sendOSC (addresses.selected, track.isSelected (), dump);
+        writer.sendOSC (addresses.isGroup, track.isGroup (), dump);
+        writer.sendOSC (addresses.name, track.getName (), dump);
+        writer.sendOSC (addresses.volumeStr, track.getVolumeStr (), dump);
+        writer.sendOSC (addresses.volume, track.getVolume (), dump);
+        writer.sendOSC (addresses.panStr, track.getPanStr (), dump);
+        writer.sendOSC (addresses.pan, track.getPan (), dump);
+        writer.sendOSC (addresses.mute, track.isMute (), dump);
+        writer.sendOSC (addresses.solo, track.isSolo (), dump);
+        writer.sendOSC (addresses.recarm, track.isRecArm (), dump);
+        writer.sendOSC (addresses.monitor, track.isMonitor (), dump);
+        writer.sendOSC (addresses.autoMonitor, track.isAutoMonitor (), dump);
+        writer.sendOSC (addresses.canHoldNotes, track.canHoldNotes (), dump);
+        writer.sendOSC (addresses.canHoldAudioData, track.canHoldAudioData (), dump);
+        writer.sendOSC (addresses.position, track.getPosition (), dump);
 
         if (track instanceof final ICursorTrack cursorTrack)
-            writer.sendOSC (trackAddress + "pinned", cursorTrack.isPinned (), dump);
+            writer.sendOSC (addresses.pinned, cursorTrack.isPinned (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
-        for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (writer, trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+        final int numSends = Math.min (sendBank.getPageSize (), addresses.sends.length);
+        for (int i = 0; i < numSends; i++)
+            this.flushParameterData (writer, addresses.sends[i], sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
-        for (int i = 0; i < slotBank.getPageSize (); i++)
+        final int numSlots = flushClips ? Math.min (slotBank.getPageSize (), addresses.clips.length) : 0;
+        for (int i = 0; i < numSlots; i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            writer.sendOSC (clipAddress + TAG_NAME, slot.getName (), dump);
-            writer.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            writer.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            writer.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            writer.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            writer.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            writer.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            writer.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final ClipAddresses clipAddresses = addresses.clips[i];
+            writer.sendOSC (clipAddresses.name, slot.getName (), dump);
+            writer.sendOSC (clipAddresses.isSelected, slot.isSelected (), dump);
+            writer.sendOSC (clipAddresses.hasContent, slot.hasContent (), dump);
+            writer.sendOSC (clipAddresses.isPlaying, slot.isPlaying (), dump);
+            writer.sendOSC (clipAddresses.isRecording, slot.isRecording (), dump);
+            writer.sendOSC (clipAddresses.isPlayingQueued, slot.isPlayingQueued (), dump);
+            writer.sendOSC (clipAddresses.isRecordingQueued, slot.isRecordingQueued (), dump);
+            writer.sendOSC (clipAddresses.isStopQueued, slot.isStopQueued (), dump);
 
             final ColorEx color = slot.getColor ();
-            writer.sendOSCColor (clipAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+            writer.sendOSCColor (clipAddresses.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
         }
 
         final ColorEx color = track.getColor ();
-        writer.sendOSCColor (trackAddress + TAG_COLOR, color.getRed (), color.getGreen (), color.getBlue (), dump);
+        writer.sendOSCColor (addresses.color, color.getRed (), color.getGreen (), color.getBlue (), dump);
 
         final String crossfadeMode = track.getCrossfadeParameter ().getDisplayedValue ();
-        writer.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        writer.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeA, "A".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeB, "B".equals (crossfadeMode), dump);
+        writer.sendOSC (addresses.crossfadeModeAB, "AB".equals (crossfadeMode), dump);
 
-        writer.sendOSC (trackAddress + "vu", this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
+        writer.sendOSC (addresses.vu, this.configuration.isEnableVUMeters () ? track.getVu () : 0, dump);
     }
 
 
@@ -523,4 +621,93 @@ public class TrackModule extends AbstractModule
         else if (TAG_TOUCHED.equals (path.get (0)))
             send.touchValue (isTrigger (value));
     }
+
+
+    /**
+     * The IDs of the OSC addresses of a track.
+     */
+    private static class TrackAddresses extends ChannelAddresses
+    {
+        final int              type;
+        final int              isGroup;
+        final int              recarm;
+        final int              monitor;
+        final int              autoMonitor;
+        final int              canHoldNotes;
+        final int              canHoldAudioData;
+        final int              position;
+        final int              pinned;
+        final int              crossfadeModeA;
+        final int              crossfadeModeB;
+        final int              crossfadeModeAB;
+        final ClipAddresses [] clips;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which registers the addresses
+         * @param address The start address of the track
+         * @param track A track from which to get the number of sends and clips
+         */
+        TrackAddresses (final IOpenSoundControlWriter writer, final String address, final ITrack track)
+        {
+            super (writer, address, track.getSendBank ().getPageSize ());
+
+            this.type = writer.getAddressID (address + "type");
+            this.isGroup = writer.getAddressID (address + "isGroup");
+            this.recarm = writer.getAddressID (address + "recarm");
+            this.monitor = writer.getAddressID (address + "monitor");
+            this.autoMonitor = writer.getAddressID (address + "autoMonitor");
+            this.canHoldNotes = writer.getAddressID (address + "canHoldNotes");
+            this.canHoldAudioData = writer.getAddressID (address + "canHoldAudioData");
+            this.position = writer.getAddressID (address + "position");
+            this.pinned = writer.getAddressID (address + "pinned");
+            this.crossfadeModeA = writer.getAddressID (address + "crossfadeMode/A");
+            this.crossfadeModeB = writer.getAddressID (address + "crossfadeMode/B");
+            this.crossfadeModeAB = writer.getAddressID (address + "crossfadeMode/AB");
+
+            final int numClips = track.getSlotBank ().getPageSize ();
+            this.clips = new ClipAddresses [numClips];
+            for (int i = 0; i < numClips; i++)
+                this.clips[i] = new ClipAddresses (writer, address + "clip/" + (i + 1) + "/");
+        }
+    }
+
+
+    /**
+     * The IDs of the OSC addresses of a clip slot.
+     */
+    private static class ClipAddresses
+    {
+        final int name;
+        final int isSelected;
+        final int hasContent;
+        final int isPlaying;
+        final int isRecording;
+        final int isPlayingQueued;
+        final int isRecordingQueued;
+        final int isStopQueued;
+        final int color;
+
+
+        /**
+         * Constructor.
+         *
+         * @param writer The writer which registers the addresses
+         * @param address The start address of the clip slot
+         */
+        ClipAddresses (final IOpenSoundControlWriter writer, final String address)
+        {
+            this.name = writer.getAddressID (address + TAG_NAME);
+            this.isSelected = writer.getAddressID (address + "isSelected");
+            this.hasContent = writer.getAddressID (address + "hasContent");
+            this.isPlaying = writer.getAddressID (address + "isPlaying");
+            this.isRecording = writer.getAddressID (address + "isRecording");
+            this.isPlayingQueued = writer.getAddressID (address + "isPlayingQueued");
+            this.isRecordingQueued = writer.getAddressID (address + "isRecordingQueued");
+            this.isStopQueued = writer.getAddressID (address + "isStopQueued");
+            this.color = writer.getAddressID (address + TAG_COLOR);
+        }
+    }
 }
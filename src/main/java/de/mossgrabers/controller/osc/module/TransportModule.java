@@ -20,6 +20,7 @@ import de.mossgrabers.framework.daw.constants.PostRecordingAction;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Locale;
 
@@ -83,6 +84,17 @@ public class TransportModule extends AbstractModule
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public String [] getSentCommands ()
+    {
+        final String [] supportedCommands = this.getSupportedCommands ();
+        final String [] sentCommands = Arrays.copyOf (supportedCommands, supportedCommands.length + 1);
+        sentCommands[supportedCommands.length] = "beat";
+        return sentCommands;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void execute (final String command, final LinkedList<String> path, final Object value) throws IllegalParameterException, UnknownCommandException, MissingCommandException
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.osc.module;
 import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
+import de.mossgrabers.controller.osc.protocol.OSCCommandTrie;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IParameter;
@@ -23,6 +24,13 @@ import java.util.LinkedList;
  */
 public class UserModule extends AbstractModule
 {
+    private final ParameterAddresses [] parameterAddresses;
+    private final int []                pageAddresses;
+    private final int []                pageSelectedAddresses;
+    private final String []             pageNames;
+    private final int                   selectedPageNameAddress;
+
+
     /**
      * Constructor.
      *
@@ -33,6 +41,23 @@ public class UserModule extends AbstractModule
     public UserModule (final IHost host, final IModel model, final IOpenSoundControlWriter writer)
     {
         super (host, model, writer);
+
+        final IParameterBank parameterBank = model.getUserParameterBank ();
+        final int pageSize = parameterBank.getPageSize ();
+        this.parameterAddresses = createParameterAddresses (writer, "/user/", pageSize, false);
+
+        final int numPages = parameterBank.getItemCount () / pageSize;
+        this.pageAddresses = new int [numPages];
+        this.pageSelectedAddresses = new int [numPages];
+        this.pageNames = new String [numPages];
+        for (int i = 0; i < numPages; i++)
+        {
+            final String pageAddress = "/user/page/" + (i + 1) + "/";
+            this.pageAddresses[i] = writer.getAddressID (pageAddress);
+            this.pageSelectedAddresses[i] = writer.getAddressID (pageAddress + "selected");
+            this.pageNames[i] = "Page " + (i + 1);
+        }
+        this.selectedPageNameAddress = writer.getAddressID ("/user/page/selected/name");
     }
 
 
@@ -60,26 +85,32 @@ public class UserModule extends AbstractModule
 
     /** {@inheritDoc} */
     @Override
-    public void flush (final boolean dump)
+    public void registerCommands (final OSCCommandTrie trie)
     {
-        final String userAddress = "/user/";
+        final IParameterBank parameterBank = this.model.getUserParameterBank ();
+        final String paramPattern = "/user/" + OSCCommandTrie.NUMBER + "/";
+        trie.register (paramPattern + "value", (numbers, value) -> parameterBank.getItem (numbers[0] - 1).setValue (toInteger (value)));
+        trie.register (paramPattern + "touched", (numbers, value) -> parameterBank.getItem (numbers[0] - 1).touchValue (isTrigger (value)));
+    }
+
 
+    /** {@inheritDoc} */
+    @Override
+    public void flush (final boolean dump)
+    {
         final IParameterBank parameterBank = this.model.getUserParameterBank ();
-        for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (this.writer, userAddress + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+        final int numParameters = Math.min (parameterBank.getPageSize (), this.parameterAddresses.length);
+        for (int i = 0; i < numParameters; i++)
+            this.flushParameterData (this.writer, this.parameterAddresses[i], parameterBank.getItem (i), dump);
 
-        final int numPages = parameterBank.getItemCount () / parameterBank.getPageSize ();
+        final int numPages = Math.min (parameterBank.getItemCount () / parameterBank.getPageSize (), this.pageAddresses.length);
         final int selectedPage = parameterBank.getScrollPosition () / parameterBank.getPageSize ();
         for (int i = 0; i < numPages; i++)
         {
-            final int oneplus = i + 1;
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/", "Page " + (i + 1), dump);
-            this.writer.sendOSC (userAddress + "page/" + oneplus + "/selected", selectedPage == i, dump);
+            this.writer.sendOSC (this.pageAddresses[i], this.pageNames[i], dump);
+            this.writer.sendOSC (this.pageSelectedAddresses[i], selectedPage == i, dump);
         }
-        this.writer.sendOSC (userAddress + "page/selected/name", "Page " + (selectedPage + 1), dump);
+        this.writer.sendOSC (this.selectedPageNameAddress, selectedPage < this.pageNames.length ? this.pageNames[selectedPage] : "Page " + (selectedPage + 1), dump);
     }
 
 
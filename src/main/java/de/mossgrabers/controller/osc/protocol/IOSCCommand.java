@@ -0,0 +1,27 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+
+
+/**
+ * Interface for an OSC command which is registered for an address pattern in the command trie.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IOSCCommand
+{
+    /**
+     * Execute the command.
+     *
+     * @param numbers The numbers which matched the number segments of the address pattern in the
+     *            order of their appearance, the array is re-used for the next message
+     * @param value A value parameter for the command, may be null
+     * @throws IllegalParameterException Wrong or missing value parameter
+     */
+    void execute (int [] numbers, Object value) throws IllegalParameterException;
+}
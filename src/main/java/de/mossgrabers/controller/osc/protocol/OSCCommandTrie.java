@@ -0,0 +1,199 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.osc.protocol;
+
+import de.mossgrabers.controller.osc.exception.IllegalParameterException;
+
+import java.util.Arrays;
+
+
+/**
+ * A tree of the segments of OSC address patterns for dispatching incoming messages to their
+ * commands. An address is matched segment by segment directly on the address string, numbers are
+ * parsed from the digits. Therefore, matching an address neither splits it nor creates any objects
+ * nor relies on exceptions.<br>
+ * <br>
+ * A pattern consists of fixed segments and the number placeholder {@link #NUMBER}, e.g.
+ * "/track/{n}/volume". A fixed segment takes precedence over the number placeholder. Not thread
+ * safe, all messages must be handled by the same thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OSCCommandTrie
+{
+    /** The placeholder for a segment which matches a positive number. */
+    public static final String NUMBER      = "{n}";
+
+    /** The maximum number of number placeholders in a pattern. */
+    private static final int   MAX_NUMBERS = 4;
+    /** Numbers with more digits cannot be an index. */
+    private static final int   MAX_DIGITS  = 9;
+
+    private final Node         root        = new Node ();
+    private final int []       numbers     = new int [MAX_NUMBERS];
+
+
+    /**
+     * Register a command for an address pattern.
+     *
+     * @param pattern The address pattern, e.g. "/track/{n}/volume"
+     * @param command The command to execute if an address matches the pattern
+     */
+    public void register (final String pattern, final IOSCCommand command)
+    {
+        if (pattern.length () < 2 || pattern.charAt (0) != '/')
+            throw new IllegalArgumentException ("Pattern must start with a slash: " + pattern);
+
+        Node node = this.root;
+        int numNumbers = 0;
+        for (final String segment: pattern.substring (1).split ("/", -1))
+        {
+            if (NUMBER.equals (segment))
+            {
+                numNumbers++;
+                if (node.numberChild == null)
+                    node.numberChild = new Node ();
+                node = node.numberChild;
+            }
+            else
+                node = node.getOrAddChild (segment);
+        }
+
+        if (numNumbers > MAX_NUMBERS)
+            throw new IllegalArgumentException ("Too many number placeholders: " + pattern);
+        if (node.command != null)
+            throw new IllegalArgumentException ("Pattern is already registered: " + pattern);
+        node.command = command;
+    }
+
+
+    /**
+     * Execute the command which is registered for the address.
+     *
+     * @param address The OSC address of the message
+     * @param value A value parameter for the command, may be null
+     * @return True if a command was registered for the address and has been executed
+     * @throws IllegalParameterException Wrong or missing value parameter
+     */
+    public boolean execute (final String address, final Object value) throws IllegalParameterException
+    {
+        final int length = address.length ();
+        if (length == 0 || address.charAt (0) != '/')
+            return false;
+
+        Node node = this.root;
+        int numNumbers = 0;
+        int start = 1;
+        while (start <= length)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            Node child = node.findChild (address, start, end);
+            if (child == null)
+            {
+                if (node.numberChild == null)
+                    return false;
+                final int number = parseNumber (address, start, end);
+                if (number < 0)
+                    return false;
+                this.numbers[numNumbers] = number;
+                numNumbers++;
+                child = node.numberChild;
+            }
+
+            node = child;
+            start = end + 1;
+        }
+
+        if (node.command == null)
+            return false;
+        node.command.execute (this.numbers, value);
+        return true;
+    }
+
+
+    /**
+     * Parse the digits of a segment.
+     *
+     * @param address The address which contains the segment
+     * @param start The index of the first character of the segment
+     * @param end The index after the last character of the segment
+     * @return The number or -1 if the segment is empty, contains other characters than digits or is
+     *         too long
+     */
+    private static int parseNumber (final String address, final int start, final int end)
+    {
+        if (start == end || end - start > MAX_DIGITS)
+            return -1;
+
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final int digit = address.charAt (i) - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            number = number * 10 + digit;
+        }
+        return number;
+    }
+
+
+    /**
+     * A node for one segment of the address patterns.
+     */
+    private static class Node
+    {
+        private String []   segments = new String [0];
+        private Node []     children = new Node [0];
+        private Node        numberChild;
+        private IOSCCommand command;
+
+
+        /**
+         * Get the child node for a fixed segment. Creates it if not present.
+         *
+         * @param segment The segment
+         * @return The child node
+         */
+        Node getOrAddChild (final String segment)
+        {
+            for (int i = 0; i < this.segments.length; i++)
+            {
+                if (this.segments[i].equals (segment))
+                    return this.children[i];
+            }
+
+            final int size = this.segments.length;
+            this.segments = Arrays.copyOf (this.segments, size + 1);
+            this.children = Arrays.copyOf (this.children, size + 1);
+            this.segments[size] = segment;
+            this.children[size] = new Node ();
+            return this.children[size];
+        }
+
+
+        /**
+         * Find the child node for a segment of an address.
+         *
+         * @param address The address
+         * @param start The index of the first character of the segment
+         * @param end The index after the last character of the segment
+         * @return The child node or null if there is no matching fixed segment
+         */
+        Node findChild (final String address, final int start, final int end)
+        {
+            final int length = end - start;
+            for (int i = 0; i < this.segments.length; i++)
+            {
+                final String segment = this.segments[i];
+                if (segment.length () == length && address.regionMatches (start, segment, 0, length))
+                    return this.children[i];
+            }
+            return null;
+        }
+    }
+}
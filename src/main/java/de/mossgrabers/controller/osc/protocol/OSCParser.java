@@ -9,6 +9,7 @@ import de.mossgrabers.controller.osc.exception.IllegalParameterException;
 import de.mossgrabers.controller.osc.exception.MissingCommandException;
 import de.mossgrabers.controller.osc.exception.UnknownCommandException;
 import de.mossgrabers.controller.osc.module.IModule;
+import de.mossgrabers.framework.controller.FlushProfiler;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
@@ -17,11 +18,13 @@ import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
 import de.mossgrabers.framework.utils.KeyManager;
+import de.mossgrabers.framework.utils.LatencyHistogram;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.Locale;
 import java.util.Map;
 
 
@@ -33,7 +36,8 @@ import java.util.Map;
 public class OSCParser extends AbstractOpenSoundControlParser
 {
     private final OSCControlSurface    surface;
-    private final Map<String, IModule> modules = new HashMap<> ();
+    private final Map<String, IModule> modules     = new HashMap<> ();
+    private final OSCCommandTrie       commandTrie = new OSCCommandTrie ();
 
 
     /**
@@ -55,6 +59,11 @@ public class OSCParser extends AbstractOpenSoundControlParser
 
         this.model.getCurrentTrackBank ().setIndication (true);
         this.surface.setKeyTranslationTable (model.getScales ().getNoteMatrix ());
+
+        this.commandTrie.register ("/refresh", (numbers, value) -> this.writer.flush (true));
+        this.commandTrie.register ("/subscribe", (numbers, value) -> this.subscribe (value));
+        this.commandTrie.register ("/unsubscribe", (numbers, value) -> this.unsubscribe (value));
+        this.commandTrie.register ("/debug/metrics", (numbers, value) -> this.sendMetrics ());
     }
 
 
@@ -64,27 +73,28 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
-            return;
-
-        final String command = oscParts.removeFirst ();
-        if ("refresh".equals (command))
-        {
-            this.writer.flush (true);
-            return;
-        }
-
         final Object [] values = message.getValues ();
+        final Object value;
+        if (values != null && values.length > 1)
+            value = values;
+        else
+            value = values == null || values.length == 0 ? null : values[0];
+
         try
         {
+            // Frequently sent addresses are dispatched without parsing the address
+            if (this.commandTrie.execute (message.getAddress (), value))
+                return;
+
+            final LinkedList<String> oscParts = parseAddress (message);
+            if (oscParts.isEmpty ())
+                return;
+
+            final String command = oscParts.removeFirst ();
             final IModule module = this.modules.get (command);
             if (module == null)
                 throw new UnknownCommandException (command);
-            if (values != null && values.length > 1)
-                module.execute (command, oscParts, values);
-            else
-                module.execute (command, oscParts, values == null || values.length == 0 ? null : values[0]);
+            module.execute (command, oscParts, value);
         }
         catch (final IllegalParameterException ex)
         {
@@ -118,6 +128,94 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Subscribe to address patterns. Sends the current values of all subscribed addresses.
+     *
+     * @param value The address pattern or an array of patterns
+     * @throws IllegalParameterException If no pattern is given
+     */
+    private void subscribe (final Object value) throws IllegalParameterException
+    {
+        if (value == null)
+            throw new IllegalParameterException ("Address pattern missing");
+
+        if (value instanceof final Object [] patterns)
+        {
+            for (final Object pattern: patterns)
+                this.writer.subscribe (pattern.toString ());
+        }
+        else
+            this.writer.subscribe (value.toString ());
+
+        this.writer.flush (true);
+    }
+
+
+    /**
+     * Remove subscriptions of address patterns.
+     *
+     * @param value The address pattern or an array of patterns, removes all subscriptions if null
+     */
+    private void unsubscribe (final Object value)
+    {
+        if (value instanceof final Object [] patterns)
+        {
+            for (final Object pattern: patterns)
+                this.writer.unsubscribe (pattern.toString ());
+        }
+        else
+            this.writer.unsubscribe (value == null ? null : value.toString ());
+    }
+
+
+    /**
+     * Send the flush metrics of all control surfaces (needs to be enabled in the debug settings).
+     * The number of coalesced flushes is sent to /debug/metrics/{surface}/coalesced. Each
+     * histogram is sent to /debug/metrics/{surface}/{phase|view|mode}/{name} with the values count,
+     * mean, p50, p99 and max. The durations are in microseconds.
+     */
+    private void sendMetrics ()
+    {
+        for (final FlushProfiler profiler: FlushProfiler.getAll ())
+        {
+            final String prefix = "/debug/metrics/" + profiler.getName ();
+            this.writer.fastSendOSC (prefix + "/coalesced", new int []
+            {
+                toInt (profiler.getCoalescedFlushes ())
+            });
+            for (final FlushProfiler.Phase phase: FlushProfiler.Phase.values ())
+                this.sendHistogram (prefix + "/phase/" + phase.name ().toLowerCase (Locale.US), profiler.getPhaseHistogram (phase));
+            profiler.getViewHistograms ().forEach ( (viewID, histogram) -> this.sendHistogram (prefix + "/view/" + viewID.name ().toLowerCase (Locale.US), histogram));
+            profiler.getModeHistograms ().forEach ( (modeID, histogram) -> this.sendHistogram (prefix + "/mode/" + modeID.name ().toLowerCase (Locale.US), histogram));
+        }
+    }
+
+
+    /**
+     * Send the values of a histogram.
+     *
+     * @param address The OSC address
+     * @param histogram The histogram
+     */
+    private void sendHistogram (final String address, final LatencyHistogram histogram)
+    {
+        this.writer.fastSendOSC (address, new int []
+        {
+            toInt (histogram.getCount ()),
+            toInt (histogram.getMean () / 1000),
+            toInt (histogram.getValueAtPercentile (50) / 1000),
+            toInt (histogram.getValueAtPercentile (99) / 1000),
+            toInt (histogram.getMax () / 1000)
+        });
+    }
+
+
+    private static int toInt (final long value)
+    {
+        return (int) Math.min (Integer.MAX_VALUE, value);
+    }
+
+
     /**
      * Register a command module.
      *
@@ -126,5 +224,6 @@ public class OSCParser extends AbstractOpenSoundControlParser
     public void registerModule (final IModule module)
     {
         Arrays.asList (module.getSupportedCommands ()).forEach (command -> this.modules.put (command, module));
+        module.registerCommands (this.commandTrie);
     }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -33,7 +34,9 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         HEARTBEAT_MESSAGES.add ("/beat/str");
     }
 
-    private final List<IModule> modules = new ArrayList<> ();
+    private final List<IModule> modules                  = new ArrayList<> ();
+    private final BitSet        subscribedModules        = new BitSet ();
+    private int                 subscribedModulesVersion = -1;
 
 
     /**
@@ -56,7 +59,12 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         if (!this.isConnected ())
             return;
-        this.modules.forEach (module -> module.flush (dump));
+
+        if (this.subscribedModulesVersion != this.getSubscriptionsVersion ())
+            this.updateSubscribedModules ();
+        for (int i = this.subscribedModules.nextSetBit (0); i >= 0; i = this.subscribedModules.nextSetBit (i + 1))
+            this.modules.get (i).flush (dump);
+
         this.flush ("/update");
     }
 
@@ -77,5 +85,27 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     public void registerModule (final IModule module)
     {
         this.modules.add (module);
+        this.subscribedModulesVersion = -1;
+    }
+
+
+    /**
+     * Check which modules send at least one subscribed address.
+     */
+    private void updateSubscribedModules ()
+    {
+        this.subscribedModules.clear ();
+        for (int i = 0; i < this.modules.size (); i++)
+        {
+            for (final String command: this.modules.get (i).getSentCommands ())
+            {
+                if (this.isSubscribed ("/" + command))
+                {
+                    this.subscribedModules.set (i);
+                    break;
+                }
+            }
+        }
+        this.subscribedModulesVersion = this.getSubscriptionsVersion ();
     }
 }
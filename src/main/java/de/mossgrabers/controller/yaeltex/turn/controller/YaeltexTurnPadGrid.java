@@ -6,6 +6,7 @@ package de.mossgrabers.controller.yaeltex.turn.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.BlinkingPadGrid;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
 
@@ -30,13 +31,9 @@ public class YaeltexTurnPadGrid extends BlinkingPadGrid
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
-        return new int []
-        {
-            YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN,
-            note
-        };
+        return TranslatedNote.create (YaeltexTurnControlSurface.MIDI_CHANNEL_MAIN, note);
     }
 
 
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.midi.MidiConstants;
 import de.mossgrabers.framework.featuregroup.IView;
+import de.mossgrabers.framework.utils.KeyManager;
 
 
 /**
@@ -84,8 +85,9 @@ public class AftertouchViewCommand<S extends IControlSurface<C>, C extends Confi
 
         if (convertAftertouch == AbstractConfiguration.AFTERTOUCH_CONVERT_POLY)
         {
-            for (final Integer key: this.view.getKeyManager ().getPressedKeys ())
-                this.onPolyAftertouch (key.intValue (), value);
+            final KeyManager keyManager = this.view.getKeyManager ();
+            for (int key = keyManager.getNextPressedKey (0); key >= 0; key = keyManager.getNextPressedKey (key + 1))
+                this.onPolyAftertouch (key, value);
         }
         else
             this.onPolyAftertouch (-1, value);
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.configuration;
 
+import de.mossgrabers.framework.controller.FlushProfiler;
 import de.mossgrabers.framework.controller.color.ColorEx;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -130,6 +131,8 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer      FOOTSWITCH_4                      = Integer.valueOf (43);
     /** Preferred note view. */
     public static final Integer      PREFERRED_NOTE_VIEW               = Integer.valueOf (44);
+    /** Profile the flushes of the control surface. */
+    public static final Integer      FLUSH_PROFILING                   = Integer.valueOf (45);
 
     // Implementation IDs start at 50
 
@@ -433,6 +436,7 @@ public abstract class AbstractConfiguration implements Configuration
     private RecordFunction                            shiftedRecordButtonFunction         = RecordFunction.NEW_CLIP;
     private Views                                     preferredNoteView                   = Views.PLAY;
     private boolean                                   useCombinationButtonToSoundDrumPads = false;
+    private boolean                                   isFlushProfilingEnabled             = false;
 
 
     /**
@@ -1239,6 +1243,26 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the settings for profiling the flushes of the control surface.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateFlushProfilingSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting flushProfilingSetting = settingsUI.getEnumSetting ("Profile flush", CATEGORY_DEBUG, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        flushProfilingSetting.addValueObserver (value -> {
+            this.isFlushProfilingEnabled = ON_OFF_OPTIONS[1].equals (value);
+            this.notifyObservers (FLUSH_PROFILING);
+        });
+
+        settingsUI.getSignalSetting ("Flush metrics", CATEGORY_DEBUG, "Print").addSignalObserver (value -> this.host.println (FlushProfiler.createReport ()));
+        settingsUI.getSignalSetting ("Reset flush metrics", CATEGORY_DEBUG, "Reset").addSignalObserver (value -> FlushProfiler.getAll ().forEach (FlushProfiler::reset));
+
+        this.isSettingActive.add (FLUSH_PROFILING);
+    }
+
+
     /**
      * Activate the flat or hierarchical tracks setting.
      *
@@ -1787,6 +1811,14 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isFlushProfilingEnabled ()
+    {
+        return this.isFlushProfilingEnabled;
+    }
+
+
     /**
      * Get the user page names.
      *
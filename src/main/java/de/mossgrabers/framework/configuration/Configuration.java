@@ -284,6 +284,14 @@ public interface Configuration
     int getActionForRecArmedPad ();
 
 
+    /**
+     * Should the durations of the flushes be recorded?
+     *
+     * @return True if enabled
+     */
+    boolean isFlushProfilingEnabled ();
+
+
     /**
      * Overwrite this function to add the settings which are supported by your extension.
      *
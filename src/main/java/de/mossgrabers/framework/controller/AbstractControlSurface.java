@@ -13,6 +13,7 @@ import de.mossgrabers.framework.controller.display.IGraphicDisplay;
 import de.mossgrabers.framework.controller.display.ITextDisplay;
 import de.mossgrabers.framework.controller.grid.ILightGuide;
 import de.mossgrabers.framework.controller.grid.IPadGrid;
+import de.mossgrabers.framework.controller.grid.TranslatedNote;
 import de.mossgrabers.framework.controller.hardware.BindType;
 import de.mossgrabers.framework.controller.hardware.IHwAbsoluteKnob;
 import de.mossgrabers.framework.controller.hardware.IHwButton;
@@ -92,6 +93,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     private final Object                                  updateCounterLock              = new Object ();
     private int                                           updateCounter                  = 0;
+    private final FlushProfiler                           flushProfiler;
 
     private boolean                                       knobSensitivityIsSlow          = false;
     private final List<ISensitivityCallback>              knobSensitivityObservers       = new ArrayList<> ();
@@ -159,6 +161,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.lightGuide = lightGuide;
 
         this.surfaceFactory = host.createSurfaceFactory (width, height);
+        this.flushProfiler = FlushProfiler.create (this.getClass ().getSimpleName () + "-" + surfaceID);
 
         this.dummyDisplay = new DummyDisplay (host);
 
@@ -189,8 +192,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             final ButtonID buttonID = ButtonID.get (ButtonID.PAD1, i);
             final IHwButton pad = this.createButton (buttonID, "P " + (i + 1));
             pad.addLight (this.surfaceFactory.createLight (this.surfaceID, null, () -> this.padGrid.getLightInfo (note).getEncoded (), state -> this.padGrid.sendState (note), colorIndex -> this.colorManager.getColor (colorIndex, buttonID), pad));
-            final int [] translated = this.padGrid.translateToController (note);
-            pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
+            final int translated = this.padGrid.translateToController (note);
+            pad.bind (this.input, BindType.NOTE, TranslatedNote.getChannel (translated), TranslatedNote.getNote (translated));
             pad.bind ( (event, velocity) -> this.handleGridNote (event, note, velocity));
         }
     }
@@ -224,8 +227,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             final int note = startNote + i;
 
             final IHwButton pad = this.getButton (ButtonID.get (ButtonID.PAD1, i));
-            final int [] translated = this.padGrid.translateToController (note);
-            pad.bind (this.input, BindType.NOTE, translated[0], translated[1]);
+            final int translated = this.padGrid.translateToController (note);
+            pad.bind (this.input, BindType.NOTE, TranslatedNote.getChannel (translated), TranslatedNote.getNote (translated));
         }
     }
 
@@ -685,6 +688,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         synchronized (this.updateCounterLock)
         {
+            if (this.updateCounter > 0 && this.configuration.isFlushProfilingEnabled ())
+                this.flushProfiler.countCoalesced ();
             this.updateCounter++;
             this.scheduleTask (this::flushHandler, 1);
         }
@@ -727,9 +732,14 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
         try
         {
-            this.updateViewControls ();
-            this.updateGrid ();
-            this.flushHardware ();
+            if (this.configuration.isFlushProfilingEnabled ())
+                this.profiledFlush ();
+            else
+            {
+                this.updateViewControls ();
+                this.updateGrid ();
+                this.flushHardware ();
+            }
         }
         catch (final RuntimeException ex)
         {
@@ -749,6 +759,27 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Flush like the flush handler but record the durations of the phases.
+     */
+    private void profiledFlush ()
+    {
+        final long start = System.nanoTime ();
+        this.updateViewControls ();
+        final long viewControlsEnd = System.nanoTime ();
+        this.updateGrid ();
+        final long gridEnd = System.nanoTime ();
+        this.flushHardware ();
+        final long end = System.nanoTime ();
+
+        this.flushProfiler.record (FlushProfiler.Phase.VIEW_CONTROLS, viewControlsEnd - start);
+        this.flushProfiler.record (FlushProfiler.Phase.GRID, gridEnd - viewControlsEnd);
+        this.flushProfiler.record (FlushProfiler.Phase.HARDWARE, end - gridEnd);
+        this.flushProfiler.record (FlushProfiler.Phase.FLUSH, end - start);
+        this.flushProfiler.recordActive (this.viewManager.getActiveID (), this.modeManager.getActiveID (), end - start);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void clearCache ()
@@ -763,6 +794,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     {
         this.internalShutdown ();
         this.flushHardware ();
+        this.flushProfiler.release ();
     }
 
 
@@ -0,0 +1,246 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.mode.Modes;
+import de.mossgrabers.framework.utils.LatencyHistogram;
+import de.mossgrabers.framework.view.Views;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Collects the durations of the phases of the flushes of a control surface as well as the duration
+ * of the complete flush per active view and mode. Recording is lock free and does not create
+ * objects (apart from the first time a view or mode is recorded), therefore it can stay enabled
+ * while playing. All profilers are registered by the name of their surface to be able to report
+ * them, e.g. via OSC.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushProfiler
+{
+    /** The measured phases of a flush. */
+    public enum Phase
+    {
+        /** The complete flush. */
+        FLUSH,
+        /** Updating the controls (e.g. the buttons) of the active view. */
+        VIEW_CONTROLS,
+        /** Drawing the pad grid of the active view. */
+        GRID,
+        /** Sending the changes to the hardware. */
+        HARDWARE
+    }
+
+
+    private static final Map<String, FlushProfiler> PROFILERS        = new ConcurrentSkipListMap<> ();
+    /** Makes the names of several instances of the same surface unique. */
+    private static final AtomicInteger              INSTANCE_COUNTER = new AtomicInteger ();
+
+    private final String                            name;
+    private final Map<Phase, LatencyHistogram>      phaseHistograms  = new EnumMap<> (Phase.class);
+    private final Map<Views, LatencyHistogram>      viewHistograms   = new ConcurrentHashMap<> ();
+    private final Map<Modes, LatencyHistogram>      modeHistograms   = new ConcurrentHashMap<> ();
+    private final AtomicLong                        coalescedFlushes = new AtomicLong ();
+
+
+    /**
+     * Create a profiler and register it. A running number is appended to the name, therefore
+     * several instances of the same surface (e.g. the same extension added twice) do not replace
+     * each other.
+     *
+     * @param name The name of the profiler, e.g. the name of the surface
+     * @return The new profiler
+     */
+    public static FlushProfiler create (final String name)
+    {
+        final FlushProfiler profiler = new FlushProfiler (name + "-" + INSTANCE_COUNTER.incrementAndGet ());
+        PROFILERS.put (profiler.getName (), profiler);
+        return profiler;
+    }
+
+
+    /**
+     * Get all registered profilers, sorted by their name.
+     *
+     * @return The profilers
+     */
+    public static Collection<FlushProfiler> getAll ()
+    {
+        return PROFILERS.values ();
+    }
+
+
+    /**
+     * Create a report of all registered profilers.
+     *
+     * @return The report, one line per histogram
+     */
+    public static String createReport ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        for (final FlushProfiler profiler: PROFILERS.values ())
+        {
+            sb.append (profiler.name).append (" (coalesced flushes: ").append (profiler.getCoalescedFlushes ()).append (")\n");
+            for (final Phase phase: Phase.values ())
+                appendLine (sb, phase.name (), profiler.getPhaseHistogram (phase));
+            profiler.viewHistograms.forEach ( (view, histogram) -> appendLine (sb, "View " + view.name (), histogram));
+            profiler.modeHistograms.forEach ( (mode, histogram) -> appendLine (sb, "Mode " + mode.name (), histogram));
+        }
+        return sb.toString ();
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the profiler
+     */
+    private FlushProfiler (final String name)
+    {
+        this.name = name;
+
+        for (final Phase phase: Phase.values ())
+            this.phaseHistograms.put (phase, new LatencyHistogram ());
+    }
+
+
+    /**
+     * Unregister the profiler.
+     */
+    public void release ()
+    {
+        PROFILERS.remove (this.name, this);
+    }
+
+
+    /**
+     * Get the name of the profiler.
+     *
+     * @return The name
+     */
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /**
+     * Record the duration of a phase.
+     *
+     * @param phase The phase
+     * @param nanos The duration in nanoseconds
+     */
+    public void record (final Phase phase, final long nanos)
+    {
+        this.phaseHistograms.get (phase).record (nanos);
+    }
+
+
+    /**
+     * Record the duration of a complete flush for the active view and mode.
+     *
+     * @param viewID The ID of the active view, might be null
+     * @param modeID The ID of the active mode, might be null
+     * @param nanos The duration in nanoseconds
+     */
+    public void recordActive (final Views viewID, final Modes modeID, final long nanos)
+    {
+        if (viewID != null)
+            this.viewHistograms.computeIfAbsent (viewID, id -> new LatencyHistogram ()).record (nanos);
+        if (modeID != null)
+            this.modeHistograms.computeIfAbsent (modeID, id -> new LatencyHistogram ()).record (nanos);
+    }
+
+
+    /**
+     * Count a flush request which was merged into an already pending flush.
+     */
+    public void countCoalesced ()
+    {
+        this.coalescedFlushes.incrementAndGet ();
+    }
+
+
+    /**
+     * Get the number of flush requests which were merged into an already pending flush.
+     *
+     * @return The number
+     */
+    public long getCoalescedFlushes ()
+    {
+        return this.coalescedFlushes.get ();
+    }
+
+
+    /**
+     * Get the histogram of a phase.
+     *
+     * @param phase The phase
+     * @return The histogram
+     */
+    public LatencyHistogram getPhaseHistogram (final Phase phase)
+    {
+        return this.phaseHistograms.get (phase);
+    }
+
+
+    /**
+     * Get the histograms of the complete flushes per active view.
+     *
+     * @return The histograms
+     */
+    public Map<Views, LatencyHistogram> getViewHistograms ()
+    {
+        return this.viewHistograms;
+    }
+
+
+    /**
+     * Get the histograms of the complete flushes per active mode.
+     *
+     * @return The histograms
+     */
+    public Map<Modes, LatencyHistogram> getModeHistograms ()
+    {
+        return this.modeHistograms;
+    }
+
+
+    /**
+     * Remove all recorded values.
+     */
+    public void reset ()
+    {
+        this.phaseHistograms.values ().forEach (LatencyHistogram::reset);
+        this.viewHistograms.clear ();
+        this.modeHistograms.clear ();
+        this.coalescedFlushes.set (0);
+    }
+
+
+    /**
+     * Append a line with the values of a histogram. The durations are in microseconds.
+     *
+     * @param sb Where to append the line
+     * @param label The label of the histogram
+     * @param histogram The histogram
+     */
+    private static void appendLine (final StringBuilder sb, final String label, final LatencyHistogram histogram)
+    {
+        sb.append ("    ").append (label).append (": count ").append (histogram.getCount ());
+        sb.append (", mean ").append (histogram.getMean () / 1000).append ("us");
+        sb.append (", p50 ").append (histogram.getValueAtPercentile (50) / 1000).append ("us");
+        sb.append (", p99 ").append (histogram.getValueAtPercentile (99) / 1000).append ("us");
+        sb.append (", max ").append (histogram.getMax () / 1000).append ("us\n");
+    }
+}
@@ -0,0 +1,76 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.color;
+
+/**
+ * A color key which is resolved by the color manager. Holds the color index which is registered
+ * for the key. Therefore, the color index can be retrieved without a lookup of the key.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ColorHandle
+{
+    private final String key;
+    private int          colorIndex;
+    private boolean      isRegistered = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param key The key of the color
+     */
+    ColorHandle (final String key)
+    {
+        this.key = key;
+    }
+
+
+    /**
+     * Get the key of the color.
+     *
+     * @return The key
+     */
+    public String getKey ()
+    {
+        return this.key;
+    }
+
+
+    /**
+     * Get the color index which is registered for the key.
+     *
+     * @return The color index
+     */
+    public int getColorIndex ()
+    {
+        if (!this.isRegistered)
+            throw new ColorIndexException ("Color for key " + this.key + " is not registered!");
+        return this.colorIndex;
+    }
+
+
+    /**
+     * Is a color index registered for the key?
+     *
+     * @return True if registered
+     */
+    public boolean isRegistered ()
+    {
+        return this.isRegistered;
+    }
+
+
+    /**
+     * Set the color index for the key.
+     *
+     * @param colorIndex The color index
+     */
+    void setColorIndex (final int colorIndex)
+    {
+        this.colorIndex = colorIndex;
+        this.isRegistered = true;
+    }
+}
@@ -13,21 +13,28 @@ import java.util.Map;
 
 /**
  * Manages colors. Color indices can be identified by a text identifier. The second lookup handles
- * the mapping from color indices to the real color values as ColorEx objects.
+ * the mapping from color indices to the real color values as ColorEx objects.<br>
+ * <br>
+ * The text identifiers can be resolved to color handles, which are updated when the color index of
+ * the identifier changes. Getting the color index of a handle does not require a lookup.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String            BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String             BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String            BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String             BUTTON_STATE_ON  = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String            BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String             BUTTON_STATE_HI  = "BUTTON_STATE_HI";
 
-    protected final Map<String, Integer>  colorIndexByKey  = new HashMap<> ();
-    protected final Map<Integer, ColorEx> colorByIndex     = new HashMap<> ();
+    /** The number of color indices. */
+    public static final int                NUM_COLORS       = 128;
+
+    private final Map<String, ColorHandle> colorHandleByKey = new HashMap<> ();
+    private final ColorHandle []           dawColorHandles  = new ColorHandle [DAWColor.values ().length];
+    protected final ColorEx []             colorByIndex     = new ColorEx [NUM_COLORS];
 
 
     /**
@@ -38,7 +45,7 @@ public class ColorManager
      */
     public void registerColorIndex (final String key, final int colorIndex)
     {
-        if (this.colorIndexByKey.containsKey (key))
+        if (this.getColorHandle (key).isRegistered ())
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
         this.updateColorIndex (key, colorIndex);
     }
@@ -52,7 +59,7 @@ public class ColorManager
      */
     public void updateColorIndex (final String key, final int colorIndex)
     {
-        this.colorIndexByKey.put (key, Integer.valueOf (colorIndex));
+        this.getColorHandle (key).setColorIndex (colorIndex);
     }
 
 
@@ -76,10 +83,70 @@ public class ColorManager
      */
     public int getColorIndex (final String key)
     {
-        final Integer colorIndex = this.colorIndexByKey.get (key);
-        if (colorIndex == null)
+        final ColorHandle colorHandle = this.colorHandleByKey.get (key);
+        if (colorHandle == null)
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
-        return colorIndex.intValue ();
+        return colorHandle.getColorIndex ();
+    }
+
+
+    /**
+     * Get the color index which is registered with the given DAW color.
+     *
+     * @param dawColor The DAW color
+     * @return The color index
+     */
+    public int getColorIndex (final DAWColor dawColor)
+    {
+        return this.getColorHandle (dawColor).getColorIndex ();
+    }
+
+
+    /**
+     * Get the handle for a color key. The handle can be retrieved before the color index of the
+     * key is registered.
+     *
+     * @param key The key
+     * @return The handle
+     */
+    public ColorHandle getColorHandle (final String key)
+    {
+        return this.colorHandleByKey.computeIfAbsent (key, ColorHandle::new);
+    }
+
+
+    /**
+     * Get the handle for a color key. The lookup is skipped if the given handle already belongs to
+     * the key, e.g. if the same key is used for a button or pad on each flush.
+     *
+     * @param previousHandle The handle which was retrieved before, might be null
+     * @param key The key
+     * @return The handle
+     */
+    public ColorHandle getColorHandle (final ColorHandle previousHandle, final String key)
+    {
+        if (previousHandle != null && previousHandle.getKey ().equals (key))
+            return previousHandle;
+        return this.getColorHandle (key);
+    }
+
+
+    /**
+     * Get the handle for a DAW color.
+     *
+     * @param dawColor The DAW color
+     * @return The handle
+     */
+    public ColorHandle getColorHandle (final DAWColor dawColor)
+    {
+        final int ordinal = dawColor.ordinal ();
+        ColorHandle colorHandle = this.dawColorHandles[ordinal];
+        if (colorHandle == null)
+        {
+            colorHandle = this.getColorHandle (dawColor.name ());
+            this.dawColorHandles[ordinal] = colorHandle;
+        }
+        return colorHandle;
     }
 
 
@@ -91,9 +158,9 @@ public class ColorManager
      */
     public void registerColor (final int colorIndex, final ColorEx color)
     {
-        if (colorIndex < 0 || colorIndex > 127)
+        if (colorIndex < 0 || colorIndex >= NUM_COLORS)
             throw new ColorIndexException ("Color index must be in the range of 0..127!");
-        this.colorByIndex.put (Integer.valueOf (colorIndex), color);
+        this.colorByIndex[colorIndex] = color;
     }
 
 
@@ -108,7 +175,7 @@ public class ColorManager
     {
         if (colorIndex < 0)
             return ColorEx.BLACK;
-        final ColorEx color = this.colorByIndex.get (Integer.valueOf (colorIndex));
+        final ColorEx color = colorIndex < NUM_COLORS ? this.colorByIndex[colorIndex] : null;
         if (color == null)
             throw new ColorIndexException ("Color for index " + colorIndex + " is not registered!");
         return color;
@@ -14,11 +14,14 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.DefaultBounds;
 import de.mossgrabers.framework.graphics.DefaultGraphicsInfo;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IBounds;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.IGraphicsInfo;
+import de.mossgrabers.framework.graphics.canvas.component.AbstractRetainedComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ChannelSelectComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ClipListComponent;
@@ -28,6 +31,8 @@ import de.mossgrabers.framework.graphics.canvas.component.ListComponent;
 import de.mossgrabers.framework.graphics.canvas.component.MidiClipComponent;
 import de.mossgrabers.framework.graphics.canvas.component.OptionsComponent;
 import de.mossgrabers.framework.graphics.canvas.component.ParameterComponent;
+import de.mossgrabers.framework.graphics.canvas.component.RetainedChannelComponent;
+import de.mossgrabers.framework.graphics.canvas.component.RetainedParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.component.SceneListGridElement;
 import de.mossgrabers.framework.graphics.canvas.component.SendsComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
@@ -35,8 +40,10 @@ import de.mossgrabers.framework.graphics.display.ModelInfo;
 import de.mossgrabers.framework.utils.Pair;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -52,41 +59,46 @@ import java.util.concurrent.atomic.AtomicReference;
 public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 {
     /** Display only a channel name for selection. */
-    public static final int                GRID_ELEMENT_CHANNEL_SELECTION  = 0;
+    public static final int                        GRID_ELEMENT_CHANNEL_SELECTION  = 0;
     /** Display a channel, edit volume. */
-    public static final int                GRID_ELEMENT_CHANNEL_VOLUME     = 1;
+    public static final int                        GRID_ELEMENT_CHANNEL_VOLUME     = 1;
     /** Display a channel, edit panorama. */
-    public static final int                GRID_ELEMENT_CHANNEL_PAN        = 2;
+    public static final int                        GRID_ELEMENT_CHANNEL_PAN        = 2;
     /** Display a channel, edit crossfader. */
-    public static final int                GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
+    public static final int                        GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
     /** Display a channel sends. */
-    public static final int                GRID_ELEMENT_CHANNEL_SENDS      = 4;
+    public static final int                        GRID_ELEMENT_CHANNEL_SENDS      = 4;
     /** Display a channel, edit all parameters. */
-    public static final int                GRID_ELEMENT_CHANNEL_ALL        = 5;
+    public static final int                        GRID_ELEMENT_CHANNEL_ALL        = 5;
     /** Display a parameter with name and value. */
-    public static final int                GRID_ELEMENT_PARAMETERS         = 6;
+    public static final int                        GRID_ELEMENT_PARAMETERS         = 6;
     /** Display options on top and bottom. */
-    public static final int                GRID_ELEMENT_OPTIONS            = 7;
+    public static final int                        GRID_ELEMENT_OPTIONS            = 7;
     /** Display a list. */
-    public static final int                GRID_ELEMENT_LIST               = 8;
+    public static final int                        GRID_ELEMENT_LIST               = 8;
 
     /** Timeout for displaying the notification message. */
-    private static final int               TIMEOUT                         = 1;
+    private static final int                       TIMEOUT                         = 1;
 
-    private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
-    private final Object                   counterSync                     = new Object ();
+    private final AtomicInteger                    counter                         = new AtomicInteger ();
+    private final ScheduledExecutorService         executor                        = Executors.newSingleThreadScheduledExecutor ();
+    private final Object                           counterSync                     = new Object ();
 
-    private final List<IComponent>         columns                         = new ArrayList<> (8);
-    private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
-    private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
+    private final List<IComponent>                 columns                         = new ArrayList<> (8);
+    private final AtomicReference<String>          notificationMessage             = new AtomicReference<> ();
+    private ModelInfo                              info                            = new ModelInfo (null, Collections.emptyList ());
+    private final BitSet                           dirtyColumns                    = new BitSet ();
+    private final List<IBounds>                    dirtyAreas                      = new ArrayList<> (8);
 
-    protected final IHost                  host;
-    protected final IGraphicsConfiguration configuration;
-    protected final IGraphicsDimensions    dimensions;
-    private final IBitmap                  image;
+    private final List<RetainedParameterComponent> retainedParameterElements       = new ArrayList<> (8);
+    private final List<RetainedChannelComponent>   retainedChannelElements         = new ArrayList<> (8);
 
-    private IHwGraphicsDisplay             hardwareDisplay;
+    protected final IHost                          host;
+    protected final IGraphicsConfiguration         configuration;
+    protected final IGraphicsDimensions            dimensions;
+    private final IBitmap                          image;
+
+    private IHwGraphicsDisplay                     hardwareDisplay;
 
 
     /**
@@ -167,19 +179,26 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
 
             final ModelInfo newInfo = new ModelInfo (notification, this.columns);
 
-            // Only render image if there is a change in the data
-            if (!this.info.equals (newInfo))
+            // Only render the parts of the image which have changed
+            this.dirtyAreas.clear ();
+            if (!this.info.equals (newInfo) || hasChangedRetainedComponents (this.columns))
             {
+                final boolean isFullRedraw = this.detectDirtyColumns (newInfo);
                 this.info = newInfo;
-                this.renderImage ();
+                this.renderImage (isFullRedraw);
             }
         }
         finally
         {
+            for (final IComponent component: this.columns)
+            {
+                if (component instanceof final AbstractRetainedComponent<?> retained)
+                    retained.clearChanged ();
+            }
             this.columns.clear ();
         }
 
-        this.send (this.image);
+        this.send (this.image, this.dirtyAreas);
     }
 
 
@@ -187,8 +206,10 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
      * Send the buffered image to the graphics display.
      *
      * @param image An image
+     * @param dirtyAreas The areas of the image which have changed since the last call, empty if
+     *            nothing has changed
      */
-    protected abstract void send (final IBitmap image);
+    protected abstract void send (final IBitmap image, final List<IBounds> dirtyAreas);
 
 
     /** {@inheritDoc} */
@@ -257,23 +278,7 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     @Override
     public void addChannelElement (final int channelType, final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final ColorEx bottomMenuColor, final boolean isBottomMenuOn, final int volume, final int modulatedVolume, final String volumeStr, final int pan, final int modulatedPan, final String panStr, final int vuLeft, final int vuRight, final boolean mute, final boolean solo, final boolean recarm, final boolean isActive, final int crossfadeMode, final boolean isPinned)
     {
-        int editType;
-        switch (channelType)
-        {
-            case GRID_ELEMENT_CHANNEL_VOLUME:
-                editType = ChannelComponent.EDIT_TYPE_VOLUME;
-                break;
-            case GRID_ELEMENT_CHANNEL_PAN:
-                editType = ChannelComponent.EDIT_TYPE_PAN;
-                break;
-            case GRID_ELEMENT_CHANNEL_CROSSFADER:
-                editType = ChannelComponent.EDIT_TYPE_CROSSFADER;
-                break;
-            default:
-                editType = ChannelComponent.EDIT_TYPE_ALL;
-                break;
-        }
-        this.addElement (new ChannelComponent (editType, topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode, isPinned));
+        this.addElement (new ChannelComponent (getChannelEditType (channelType), topMenu, isTopMenuOn, bottomMenu, bottomMenuColor, isBottomMenuOn, type, volume, modulatedVolume, volumeStr, pan, modulatedPan, panStr, vuLeft, vuRight, mute, solo, recarm, isActive, crossfadeMode, isPinned));
     }
 
 
@@ -392,6 +397,48 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public RetainedParameterComponent getRetainedParameterElement (final int column)
+    {
+        while (this.retainedParameterElements.size () <= column)
+            this.retainedParameterElements.add (new RetainedParameterComponent ());
+        return this.retainedParameterElements.get (column);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public RetainedChannelComponent getRetainedChannelElement (final int column)
+    {
+        while (this.retainedChannelElements.size () <= column)
+            this.retainedChannelElements.add (new RetainedChannelComponent ());
+        return this.retainedChannelElements.get (column);
+    }
+
+
+    /**
+     * Get the edit type of a channel component for a channel grid element type.
+     *
+     * @param channelType The type of the channel grid element, e.g. GRID_ELEMENT_CHANNEL_VOLUME
+     * @return The edit type, e.g. ChannelComponent.EDIT_TYPE_VOLUME
+     */
+    public static int getChannelEditType (final int channelType)
+    {
+        switch (channelType)
+        {
+            case GRID_ELEMENT_CHANNEL_VOLUME:
+                return ChannelComponent.EDIT_TYPE_VOLUME;
+            case GRID_ELEMENT_CHANNEL_PAN:
+                return ChannelComponent.EDIT_TYPE_PAN;
+            case GRID_ELEMENT_CHANNEL_CROSSFADER:
+                return ChannelComponent.EDIT_TYPE_CROSSFADER;
+            default:
+                return ChannelComponent.EDIT_TYPE_ALL;
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setHardwareDisplay (final IHwGraphicsDisplay display)
@@ -416,30 +463,99 @@ public abstract class AbstractGraphicDisplay implements IGraphicDisplay
     }
 
 
-    private void renderImage ()
+    /**
+     * Compares the components of the new model with the currently drawn ones and marks the changed
+     * columns as dirty.
+     *
+     * @param newInfo The new model
+     * @return True if the whole display needs to be redrawn
+     */
+    private boolean detectDirtyColumns (final ModelInfo newInfo)
+    {
+        this.dirtyColumns.clear ();
+
+        // A notification is drawn over all columns
+        if (newInfo.getNotification () != null || !Objects.equals (this.info.getNotification (), newInfo.getNotification ()))
+            return true;
+
+        final List<IComponent> oldElements = this.info.getComponents ();
+        final List<IComponent> newElements = newInfo.getComponents ();
+        final int size = newElements.size ();
+        if (size == 0 || size != oldElements.size ())
+            return true;
+
+        for (int i = 0; i < size; i++)
+        {
+            final IComponent oldComponent = oldElements.get (i);
+            final IComponent newComponent = newElements.get (i);
+
+            // Components which reach into their neighbours cannot be redrawn on their own
+            if (oldComponent != null && !oldComponent.isDrawnInBounds () || newComponent != null && !newComponent.isDrawnInBounds ())
+                return true;
+
+            if (!Objects.equals (oldComponent, newComponent) || newComponent instanceof final AbstractRetainedComponent<?> retained && retained.isChanged ())
+                this.dirtyColumns.set (i);
+        }
+        return false;
+    }
+
+
+    /**
+     * Check if the values of one of the retained components have changed.
+     *
+     * @param components The components of the columns
+     * @return True if at least one has changed
+     */
+    private static boolean hasChangedRetainedComponents (final List<IComponent> components)
+    {
+        for (final IComponent component: components)
+        {
+            if (component instanceof final AbstractRetainedComponent<?> retained && retained.isChanged ())
+                return true;
+        }
+        return false;
+    }
+
+
+    private void renderImage (final boolean isFullRedraw)
     {
-        this.image.render (this.configuration.isAntialiasEnabled (), gc -> {
-            final int width = this.dimensions.getWidth ();
-            final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
+        final int width = this.dimensions.getWidth ();
+        final int height = this.dimensions.getHeight ();
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        final double offsetX = separatorSize / 2.0;
+
+        final List<IComponent> elements = this.info.getComponents ();
+        final int size = elements.size ();
+        final int gridWidth = size == 0 ? width : width / size;
+
+        // Each column owns its drawing area and the separator on its right
+        if (isFullRedraw)
+            this.dirtyAreas.add (new DefaultBounds (0, 0, width, height));
+        else
+        {
+            for (int i = this.dirtyColumns.nextSetBit (0); i >= 0; i = this.dirtyColumns.nextSetBit (i + 1))
+            {
+                final double left = i * gridWidth + offsetX;
+                this.dirtyAreas.add (new DefaultBounds (left, 0, Math.min (gridWidth, width - left), height));
+            }
+        }
+
+        this.image.render (this.configuration.isAntialiasEnabled (), this.dirtyAreas, gc -> {
 
-            // Clear display
+            // Clear the changed areas
             final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
+            for (final IBounds area: this.dirtyAreas)
+                gc.fillRectangle (area.left (), area.top (), area.width (), area.height (), colorBorder);
 
-            final List<IComponent> elements = this.info.getComponents ();
-            final int size = elements.size ();
             if (size == 0)
                 return;
-            final int gridWidth = width / size;
             final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
 
             final IGraphicsInfo graphicsInfo = new DefaultGraphicsInfo (gc, this.configuration, this.dimensions);
             for (int i = 0; i < size; i++)
             {
                 final IComponent component = elements.get (i);
-                if (component != null)
+                if (component != null && (isFullRedraw || this.dirtyColumns.get (i)))
                     component.draw (graphicsInfo.withBounds (i * gridWidth + offsetX, 0, paintWidth, height));
             }
 
@@ -18,29 +18,32 @@ import de.mossgrabers.framework.utils.StringUtils;
 public abstract class AbstractTextDisplay implements ITextDisplay
 {
     /** Time to keep a notification displayed in milliseconds. */
-    public static final int  NOTIFICATION_TIME    = 1000;
+    public static final int     NOTIFICATION_TIME    = 1000;
 
-    protected IHost          host;
-    protected IMidiOutput    output;
+    protected IHost             host;
+    protected IMidiOutput       output;
 
-    protected int            noOfLines;
-    protected int            noOfCells;
-    protected int            noOfCharacters;
-    protected int            charactersOfCell;
+    protected int               noOfLines;
+    protected int               noOfCells;
+    protected int               noOfCharacters;
+    protected int               charactersOfCell;
 
-    protected final String   emptyLine;
-    protected String         notificationMessage;
-    protected boolean        centerNotification   = true;
-    protected int            isNotificationActive = 0;
-    protected final Object   notificationLock     = new Object ();
+    protected final String      emptyLine;
+    protected String            notificationMessage;
+    protected boolean           centerNotification   = true;
+    protected int               isNotificationActive = 0;
+    protected final Object      notificationLock     = new Object ();
 
-    private final String     emptyCell;
-    protected String []      currentMessage;
-    protected String []      message;
-    protected String []      fullRows;
-    protected String []      cells;
+    private final String        emptyCell;
+    protected String []         currentMessage;
+    protected String []         message;
+    protected String []         fullRows;
+    protected String []         cells;
+    private final String []     cellValues;
+    private final boolean []    isRowDirty;
+    private final StringBuilder rowBuilder;
 
-    protected IHwTextDisplay hwDisplay;
+    protected IHwTextDisplay    hwDisplay;
 
 
     /**
@@ -74,6 +77,9 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         this.message = new String [this.noOfLines];
         this.fullRows = new String [this.noOfLines];
         this.cells = new String [this.noOfLines * this.noOfCells];
+        this.cellValues = new String [this.cells.length];
+        this.isRowDirty = new boolean [this.noOfLines];
+        this.rowBuilder = new StringBuilder (this.noOfCharacters);
     }
 
 
@@ -159,13 +165,18 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         {
             this.message[row] = this.fullRows[row];
             this.fullRows[row] = null;
+            // The next row created from the cells needs to replace the full row
+            this.isRowDirty[row] = true;
         }
-        else
+        else if (this.isRowDirty[row] || this.message[row] == null)
         {
+            // Only rebuild the row if any of its cells has changed
+            this.isRowDirty[row] = false;
+            this.rowBuilder.setLength (0);
             final int index = row * this.noOfCells;
-            this.message[row] = "";
             for (int i = 0; i < this.noOfCells; i++)
-                this.message[row] += this.cells[index + i];
+                this.rowBuilder.append (this.cells[index + i]);
+            this.message[row] = this.rowBuilder.toString ();
         }
 
         return this;
@@ -186,7 +197,7 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     @Override
     public ITextDisplay clearCell (final int row, final int column)
     {
-        this.cells[row * this.noOfCells + column] = this.emptyCell;
+        this.setCellContent (row * this.noOfCells + column, this.emptyCell);
         return this;
     }
 
@@ -206,7 +217,12 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = StringUtils.pad (value, this.charactersOfCell);
+            // Nothing to do if the same value was set before
+            final int index = row * this.noOfCells + column;
+            if (value != null && value.equals (this.cellValues[index]))
+                return this;
+            this.setCellContent (index, StringUtils.pad (value, this.charactersOfCell));
+            this.cellValues[index] = value;
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -223,8 +239,8 @@ public abstract class AbstractTextDisplay implements ITextDisplay
         final int cell = 2 * block;
         if (value.length () >= this.charactersOfCell)
         {
-            this.cells[row * this.noOfCells + cell] = StringUtils.pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = StringUtils.pad (value.substring (this.charactersOfCell), this.charactersOfCell);
+            this.setCellContent (row * this.noOfCells + cell, StringUtils.pad (value.substring (0, this.charactersOfCell), this.charactersOfCell));
+            this.setCellContent (row * this.noOfCells + cell + 1, StringUtils.pad (value.substring (this.charactersOfCell), this.charactersOfCell));
         }
         else
         {
@@ -235,6 +251,23 @@ public abstract class AbstractTextDisplay implements ITextDisplay
     }
 
 
+    /**
+     * Set the formatted content of a cell. Marks the row of the cell as changed if the content is
+     * different from the current one.
+     *
+     * @param index The index of the cell (row * number of cells + column)
+     * @param content The formatted content
+     */
+    protected void setCellContent (final int index, final String content)
+    {
+        this.cellValues[index] = null;
+        if (content.equals (this.cells[index]))
+            return;
+        this.cells[index] = content;
+        this.isRowDirty[index / this.noOfCells] = true;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void notify (final String message)
@@ -13,6 +13,8 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.canvas.component.IComponent;
+import de.mossgrabers.framework.graphics.canvas.component.RetainedChannelComponent;
+import de.mossgrabers.framework.graphics.canvas.component.RetainedParameterComponent;
 import de.mossgrabers.framework.graphics.canvas.utils.SendData;
 import de.mossgrabers.framework.utils.Pair;
 
@@ -320,6 +322,28 @@ public interface IGraphicDisplay extends IDisplay
     void addElement (IComponent component);
 
 
+    /**
+     * Get the retained parameter element of a column. It is created once and kept by the display.
+     * Update it with its setters and add it with addElement on each update. Only the columns with
+     * changed values are redrawn, without comparing all values.
+     *
+     * @param column The index of the column
+     * @return The element
+     */
+    RetainedParameterComponent getRetainedParameterElement (int column);
+
+
+    /**
+     * Get the retained channel element of a column. It is created once and kept by the display.
+     * Update it with its setters and add it with addElement on each update. Only the columns with
+     * changed values are redrawn, without comparing all values.
+     *
+     * @param column The index of the column
+     * @return The element
+     */
+    RetainedChannelComponent getRetainedChannelElement (int column);
+
+
     /**
      * Assign a proxy to the hardware display, which gets filled by this graphics display.
      *
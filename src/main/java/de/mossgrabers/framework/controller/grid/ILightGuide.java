@@ -75,9 +75,10 @@ public interface ILightGuide
      * Plug for grids not sending notes in the range of 36-100.
      *
      * @param note The outgoing note
-     * @return The MIDI channel (index 0) and note (index 1) scaled to the controller
+     * @return The MIDI channel and note scaled to the controller, packed into one value, use
+     *         TranslatedNote to access them
      */
-    int [] translateToController (int note);
+    int translateToController (int note);
 
 
     /**
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.controller.grid;
 
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
@@ -21,6 +22,10 @@ public class PadGridImpl implements IPadGrid
     protected final ColorManager colorManager;
 
     protected LightInfo []       padStates;
+    /** The handles of the color IDs which were used last for each pad. */
+    private final ColorHandle [] colorHandles      = new ColorHandle [NUM_NOTES];
+    /** The handles of the blink color IDs which were used last for each pad. */
+    private final ColorHandle [] blinkColorHandles = new ColorHandle [NUM_NOTES];
 
     protected int                rows;
     protected int                cols;
@@ -119,7 +124,7 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void light (final int note, final String colorID, final String blinkColorID, final boolean fast)
     {
-        this.light (note, this.colorManager.getColorIndex (colorID), blinkColorID == null ? -1 : this.colorManager.getColorIndex (blinkColorID), fast);
+        this.light (note, this.getColorIndex (this.colorHandles, note, colorID), this.getColorIndex (this.blinkColorHandles, note, blinkColorID), fast);
     }
 
 
@@ -127,7 +132,29 @@ public class PadGridImpl implements IPadGrid
     @Override
     public void lightEx (final int x, final int y, final String colorID, final String blinkColorID, final boolean fast)
     {
-        this.lightEx (x, y, this.colorManager.getColorIndex (colorID), blinkColorID == null ? -1 : this.colorManager.getColorIndex (blinkColorID), fast);
+        final int note = (this.rows - 1) * this.cols + this.startNote + x - this.cols * y;
+        this.lightEx (x, y, this.getColorIndex (this.colorHandles, note, colorID), this.getColorIndex (this.blinkColorHandles, note, blinkColorID), fast);
+    }
+
+
+    /**
+     * Get the color index of a color ID. Pads mostly keep their color ID, therefore the handle of
+     * the last color ID of the pad is kept to prevent the lookup on each flush.
+     *
+     * @param handles The handles which were used last, indexed by the note of the pad
+     * @param note The note of the pad, used as the index into the handles
+     * @param colorID The color ID, might be null
+     * @return The color index or -1 if the color ID is null
+     */
+    private int getColorIndex (final ColorHandle [] handles, final int note, final String colorID)
+    {
+        if (colorID == null)
+            return -1;
+        if (note < 0 || note >= NUM_NOTES)
+            return this.colorManager.getColorIndex (colorID);
+        final ColorHandle colorHandle = this.colorManager.getColorHandle (handles[note], colorID);
+        handles[note] = colorHandle;
+        return colorHandle.getColorIndex ();
     }
 
 
@@ -175,12 +202,14 @@ public class PadGridImpl implements IPadGrid
     public void sendState (final int note)
     {
         final LightInfo state = note < this.padStates.length ? this.padStates[note] : new LightInfo ();
-        final int [] translated = this.translateToController (note);
+        final int translated = this.translateToController (note);
+        final int channel = TranslatedNote.getChannel (translated);
+        final int controllerNote = TranslatedNote.getNote (translated);
         final int color = state.getColor ();
-        this.sendNoteState (translated[0], translated[1], color < 0 ? 0 : color);
+        this.sendNoteState (channel, controllerNote, color < 0 ? 0 : color);
         final int blinkColor = state.getBlinkColor ();
         if (blinkColor > 0 && blinkColor < 128)
-            this.sendBlinkState (translated[0], translated[1], blinkColor, state.isFast ());
+            this.sendBlinkState (channel, controllerNote, blinkColor, state.isFast ());
     }
 
 
@@ -234,13 +263,9 @@ public class PadGridImpl implements IPadGrid
 
     /** {@inheritDoc} */
     @Override
-    public int [] translateToController (final int note)
+    public int translateToController (final int note)
     {
-        return new int []
-        {
-            0,
-            note
-        };
+        return TranslatedNote.create (0, note);
     }
 
 
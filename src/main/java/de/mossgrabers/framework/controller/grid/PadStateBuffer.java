@@ -0,0 +1,172 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import java.util.BitSet;
+
+
+/**
+ * Stores the color, blink color and blink speed for a set of pads, addressed by their MIDI note
+ * (0-127). Used to collect the pending pad updates of a flush or e.g. the currently blinking pads.
+ * The states are kept in primitive arrays, therefore no objects are created when pads are updated
+ * or iterated.<br>
+ * <br>
+ * An instance is not thread safe.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PadStateBuffer
+{
+    /** The number of supported notes. */
+    public static final int NUM_NOTES   = 128;
+
+    private final int []    colors      = new int [NUM_NOTES];
+    private final int []    blinkColors = new int [NUM_NOTES];
+    private final BitSet    fast        = new BitSet (NUM_NOTES);
+    private final BitSet    contained   = new BitSet (NUM_NOTES);
+
+
+    /**
+     * Set the color of a pad and add it to the buffer.
+     *
+     * @param note The note of the pad
+     * @param color The color
+     */
+    public void setColor (final int note, final int color)
+    {
+        this.colors[note] = color;
+        this.contained.set (note);
+    }
+
+
+    /**
+     * Set the blink state of a pad and add it to the buffer.
+     *
+     * @param note The note of the pad
+     * @param blinkColor The blink color
+     * @param fast Blink fast if true
+     */
+    public void setBlink (final int note, final int blinkColor, final boolean fast)
+    {
+        this.blinkColors[note] = blinkColor;
+        this.fast.set (note, fast);
+        this.contained.set (note);
+    }
+
+
+    /**
+     * Set all states of a pad and add it to the buffer.
+     *
+     * @param note The note of the pad
+     * @param color The color
+     * @param blinkColor The blink color
+     * @param fast Blink fast if true
+     */
+    public void set (final int note, final int color, final int blinkColor, final boolean fast)
+    {
+        this.colors[note] = color;
+        this.setBlink (note, blinkColor, fast);
+    }
+
+
+    /**
+     * Remove a pad from the buffer.
+     *
+     * @param note The note of the pad
+     */
+    public void remove (final int note)
+    {
+        this.colors[note] = 0;
+        this.blinkColors[note] = 0;
+        this.fast.clear (note);
+        this.contained.clear (note);
+    }
+
+
+    /**
+     * Remove all pads from the buffer.
+     */
+    public void clear ()
+    {
+        for (int note = this.contained.nextSetBit (0); note >= 0; note = this.contained.nextSetBit (note + 1))
+        {
+            this.colors[note] = 0;
+            this.blinkColors[note] = 0;
+        }
+        this.fast.clear ();
+        this.contained.clear ();
+    }
+
+
+    /**
+     * Is the buffer empty?
+     *
+     * @return True if no pad is contained
+     */
+    public boolean isEmpty ()
+    {
+        return this.contained.isEmpty ();
+    }
+
+
+    /**
+     * Get the number of contained pads.
+     *
+     * @return The number of pads
+     */
+    public int size ()
+    {
+        return this.contained.cardinality ();
+    }
+
+
+    /**
+     * Get the next contained pad. Iterate all pads with:<br>
+     * <code>for (int note = buffer.next (0); note &gt;= 0; note = buffer.next (note + 1))</code>
+     *
+     * @param fromNote The note to start the search from (inclusive)
+     * @return The note of the next contained pad or -1 if there is none
+     */
+    public int next (final int fromNote)
+    {
+        return this.contained.nextSetBit (fromNote);
+    }
+
+
+    /**
+     * Get the color of a pad.
+     *
+     * @param note The note of the pad
+     * @return The color
+     */
+    public int getColor (final int note)
+    {
+        return this.colors[note];
+    }
+
+
+    /**
+     * Get the blink color of a pad.
+     *
+     * @param note The note of the pad
+     * @return The blink color
+     */
+    public int getBlinkColor (final int note)
+    {
+        return this.blinkColors[note];
+    }
+
+
+    /**
+     * Blink fast or slow?
+     *
+     * @param note The note of the pad
+     * @return True if fast
+     */
+    public boolean isFast (final int note)
+    {
+        return this.fast.get (note);
+    }
+}
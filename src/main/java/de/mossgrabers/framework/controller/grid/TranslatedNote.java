@@ -0,0 +1,60 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+/**
+ * Helper class for packing a MIDI channel and a note, which were translated to the controller, into
+ * one integer value. This allows to translate the pads of a grid on each flush without creating
+ * objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class TranslatedNote
+{
+    /**
+     * Constructor, private due to help class.
+     */
+    private TranslatedNote ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Pack a MIDI channel and note into one value.
+     *
+     * @param channel The MIDI channel (0-15)
+     * @param note The note (0-127) or -1 if the note is not present on the controller
+     * @return The packed value
+     */
+    public static int create (final int channel, final int note)
+    {
+        return channel << 8 | note & 0xFF;
+    }
+
+
+    /**
+     * Get the MIDI channel from a packed value.
+     *
+     * @param translated The packed value
+     * @return The MIDI channel (0-15)
+     */
+    public static int getChannel (final int translated)
+    {
+        return translated >> 8;
+    }
+
+
+    /**
+     * Get the note from a packed value.
+     *
+     * @param translated The packed value
+     * @return The note (0-127) or -1 if the note is not present on the controller
+     */
+    public static int getNote (final int translated)
+    {
+        return (byte) translated;
+    }
+}
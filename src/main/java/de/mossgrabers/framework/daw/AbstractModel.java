@@ -19,12 +19,14 @@ import de.mossgrabers.framework.daw.data.bank.IParameterBank;
 import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ObserverInterests;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.FrameworkException;
 
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,6 +46,7 @@ public abstract class AbstractModel implements IModel
     protected final IValueChanger                   valueChanger;
     protected final ModelSetup                      modelSetup;
     protected final Set<IValueObserver<ITrackBank>> trackBankObservers    = new HashSet<> ();
+    protected final ObserverInterests               observerInterests     = new ObserverInterests ();
 
     protected IApplication                          application;
     protected IMixer                                mixer;
@@ -62,7 +65,7 @@ public abstract class AbstractModel implements IModel
     protected IDrumDevice                           drumDevice;
     protected Map<Integer, IDrumDevice>             additionalDrumDevices = new HashMap<> ();
     protected IParameterBank                        userParameterBank;
-    protected Map<String, INoteClip>                cursorClips           = new HashMap<> ();
+    protected Map<String, INoteClip>                cursorClips           = new LinkedHashMap<> ();
     protected final Map<DeviceID, ISpecificDevice>  specificDevices       = new EnumMap<> (DeviceID.class);
 
     private int                                     lastSelection;
@@ -133,6 +136,14 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ObserverInterests getObserverInterests ()
+    {
+        return this.observerInterests;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IProject getProject ()
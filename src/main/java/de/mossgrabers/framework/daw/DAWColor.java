@@ -77,6 +77,18 @@ public enum DAWColor
     private static final List<DAWColor> NEW_TRACK_COLORS = List.of (DAW_COLOR_PURPLE, DAW_COLOR_PINK, DAW_COLOR_RED, DAW_COLOR_ORANGE, DAW_COLOR_LIGHT_ORANGE, DAW_COLOR_MOSS_GREEN, DAW_COLOR_GREEN, DAW_COLOR_COLD_GREEN, DAW_COLOR_BLUE);
     private static DAWColor             newTrackColor    = DAW_COLOR_DARK_BLUE;
 
+    private static final DAWColor []    VALUES           = DAWColor.values ();
+
+    /** The number of bits of the index into the cache of closest colors. */
+    private static final int            CACHE_BITS       = 12;
+    /**
+     * Caches the closest color for the last looked up colors. An entry contains the RGB value
+     * (8 bit per channel) in the upper 3 bytes and the ordinal of the closest color plus one in the
+     * lowest byte, 0 if the entry is empty. Reading and writing an integer is atomic, therefore the
+     * cache is thread safe.
+     */
+    private static final int []         CLOSEST_CACHE    = new int [1 << CACHE_BITS];
+
     private String                      name;
     private ColorEx                     color;
 
@@ -176,19 +188,59 @@ public enum DAWColor
      */
     public static String getColorID (final ColorEx color)
     {
-        final DAWColor [] values = DAWColor.values ();
-        DAWColor cid = values[0];
+        return getClosestColor (color).name ();
+    }
+
+
+    /**
+     * Get the DAW color which is closest to the given color. The result is cached for the color
+     * quantized to 8 bit per channel, which is the resolution of the colors received from the DAW.
+     *
+     * @param color The color
+     * @return The closest DAW color, COLOR_OFF if none is mapped
+     */
+    public static DAWColor getClosestColor (final ColorEx color)
+    {
+        final int rgb = toRGB255 (color.getRed ()) << 16 | toRGB255 (color.getGreen ()) << 8 | toRGB255 (color.getBlue ());
+        final int index = rgb * 0x9E3779B1 >>> 32 - CACHE_BITS;
+
+        final int entry = CLOSEST_CACHE[index];
+        if (entry != 0 && entry >>> 8 == rgb)
+            return VALUES[(entry & 0xFF) - 1];
+
+        final DAWColor closest = calcClosestColor (color);
+        CLOSEST_CACHE[index] = rgb << 8 | closest.ordinal () + 1;
+        return closest;
+    }
+
+
+    /**
+     * Calculate the DAW color which is closest to the given color.
+     *
+     * @param color The color
+     * @return The closest DAW color, COLOR_OFF if none is mapped
+     */
+    private static DAWColor calcClosestColor (final ColorEx color)
+    {
+        final double [] rgb = color.toDoubleRGB ();
+        DAWColor cid = VALUES[0];
         double minError = 5.0;
-        for (int i = 1; i < values.length; i++)
+        for (int i = 1; i < VALUES.length; i++)
         {
-            final double error = ColorEx.calcDistance (values[i].getColor (), color);
+            final double error = ColorEx.calcDistance (VALUES[i].getColor ().toDoubleRGB (), rgb);
             if (error < minError)
             {
-                cid = values[i];
+                cid = VALUES[i];
                 minError = error;
             }
         }
-        return cid.name ();
+        return cid;
+    }
+
+
+    private static int toRGB255 (final double value)
+    {
+        return (int) Math.round (Math.max (0, Math.min (1, value)) * 255.0);
     }
 
 
@@ -20,6 +20,7 @@ import de.mossgrabers.framework.daw.data.bank.ISceneBank;
 import de.mossgrabers.framework.daw.data.bank.ISlotBank;
 import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.ObserverInterests;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.Optional;
@@ -120,6 +121,14 @@ public interface IModel
     ColorManager getColorManager ();
 
 
+    /**
+     * Get the interests of the active feature groups in the model objects.
+     *
+     * @return The interests
+     */
+    ObserverInterests getObserverInterests ();
+
+
     /**
      * Get the scales.
      *
@@ -330,7 +339,7 @@ public interface IModel
 
 
     /***
-     * Create or get the default cursor clip.
+     * Create or get the default cursor clip. This is the cursor clip which was created first.
      *
      * @return The cursor clip
      */
@@ -0,0 +1,241 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds system exclusive messages in a reusable byte buffer. The message starts with a fixed
+ * header (which must start with F0) and is terminated with F7 when it is sent. The message is
+ * assembled directly from bytes, only the final message array is created for sending it. A new
+ * array is created for each message since the output might keep it after the send call.<br>
+ * <br>
+ * An instance is not thread safe, use one builder per thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int        headerLength;
+    private byte []          buffer;
+    private int              position;
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of the message formatted as a hex string, e.g. F0 00 00 66 14 12
+     */
+    public SysexBuilder (final String header)
+    {
+        this (parseHex (header));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of the message
+     */
+    public SysexBuilder (final byte [] header)
+    {
+        this.headerLength = header.length;
+        this.buffer = Arrays.copyOf (header, Math.max (INITIAL_CAPACITY, header.length + 1));
+        this.position = this.headerLength;
+    }
+
+
+    /**
+     * Removes all data after the header.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder reset ()
+    {
+        this.position = this.headerLength;
+        return this;
+    }
+
+
+    /**
+     * Check if there is any data added after the header.
+     *
+     * @return True if there is no data
+     */
+    public boolean isEmpty ()
+    {
+        return this.position == this.headerLength;
+    }
+
+
+    /**
+     * Add a byte.
+     *
+     * @param value The value of the byte
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.position++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Overwrite a byte which was already added, e.g. a length field which is only known after all
+     * data was added.
+     *
+     * @param index The index of the byte in the message, the header included
+     * @param value The value of the byte
+     * @return The builder for chaining
+     */
+    public SysexBuilder set (final int index, final int value)
+    {
+        if (index < this.headerLength || index >= this.position)
+            throw new IndexOutOfBoundsException (index);
+        this.buffer[index] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param values The values of the bytes
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int [] values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.buffer[this.position++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add several bytes.
+     *
+     * @param values The bytes
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final byte [] values)
+    {
+        return this.add (values, 0, values.length);
+    }
+
+
+    /**
+     * Add a range of several bytes.
+     *
+     * @param values The bytes
+     * @param offset The index of the first byte to add
+     * @param length The number of bytes to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final byte [] values, final int offset, final int length)
+    {
+        this.ensureCapacity (length);
+        System.arraycopy (values, offset, this.buffer, this.position, length);
+        this.position += length;
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text. Each character is added as 1 byte.
+     *
+     * @param text The text to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addAscii (final String text)
+    {
+        final int length = text.length ();
+        this.ensureCapacity (length);
+        for (int i = 0; i < length; i++)
+            this.buffer[this.position++] = (byte) text.charAt (i);
+        return this;
+    }
+
+
+    /**
+     * Add bytes formatted as a hex string, e.g. 20 00 01.
+     *
+     * @param hex The bytes formatted as a hex string
+     * @return The builder for chaining
+     */
+    public SysexBuilder addHex (final String hex)
+    {
+        final int length = hex.length ();
+        int value = -1;
+        for (int i = 0; i < length; i++)
+        {
+            final int digit = Character.digit (hex.charAt (i), 16);
+            if (digit < 0)
+                continue;
+            if (value < 0)
+                value = digit;
+            else
+            {
+                this.add (value << 4 | digit);
+                value = -1;
+            }
+        }
+        return this;
+    }
+
+
+    /**
+     * Terminates the message with F7 and returns it. The builder keeps the data, further data can
+     * be added after the message was built.
+     *
+     * @return The message, a new array
+     */
+    public byte [] build ()
+    {
+        this.add (0xF7);
+        final byte [] message = Arrays.copyOf (this.buffer, this.position);
+        this.position--;
+        return message;
+    }
+
+
+    /**
+     * Terminates the message with F7, sends it and resets the builder.
+     *
+     * @param output The output to which to send the message
+     */
+    public void send (final IMidiOutput output)
+    {
+        output.sendSysex (this.build ());
+        this.reset ();
+    }
+
+
+    /**
+     * Parses bytes formatted as a hex string, e.g. F0 00 00 66 14 12.
+     *
+     * @param hex The bytes formatted as a hex string
+     * @return The parsed bytes
+     */
+    public static byte [] parseHex (final String hex)
+    {
+        final SysexBuilder builder = new SysexBuilder (new byte [0]);
+        builder.addHex (hex);
+        return Arrays.copyOf (builder.buffer, builder.position);
+    }
+
+
+    private void ensureCapacity (final int length)
+    {
+        final int required = this.position + length;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, 2 * this.buffer.length));
+    }
+}
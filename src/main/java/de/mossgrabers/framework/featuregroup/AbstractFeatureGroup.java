@@ -8,11 +8,17 @@ import de.mossgrabers.framework.MVHelper;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.ButtonID;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorHandle;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.IObserverManagement;
+import de.mossgrabers.framework.observer.ObserverInterests;
 import de.mossgrabers.framework.view.Views;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * Abstract implementation of a feature group.
@@ -25,16 +31,20 @@ import de.mossgrabers.framework.view.Views;
 public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C extends Configuration> implements IFeatureGroup
 {
     /** Color identifier for a button which is off. */
-    public static final String     BUTTON_COLOR_OFF = "BUTTON_COLOR_OFF";
+    public static final String              BUTTON_COLOR_OFF   = "BUTTON_COLOR_OFF";
     /** Color identifier for a button which is on. */
-    public static final String     BUTTON_COLOR_ON  = "BUTTON_COLOR_ON";
+    public static final String              BUTTON_COLOR_ON    = "BUTTON_COLOR_ON";
+
+    protected final String                  name;
+    protected final S                       surface;
+    protected final IModel                  model;
 
-    protected final String         name;
-    protected final S              surface;
-    protected final IModel         model;
+    protected final ColorManager            colorManager;
+    protected final MVHelper<S, C>          mvHelper;
 
-    protected final ColorManager   colorManager;
-    protected final MVHelper<S, C> mvHelper;
+    private final List<IObserverManagement> observerInterests  = new ArrayList<> ();
+    /** The handles of the color IDs which were used last for each button. */
+    private final ColorHandle []            buttonColorHandles = new ColorHandle [ButtonID.values ().length];
 
 
     /**
@@ -63,11 +73,55 @@ public abstract class AbstractFeatureGroup<S extends IControlSurface<C>, C exten
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void acquireObserverInterests ()
+    {
+        final ObserverInterests interests = this.model.getObserverInterests ();
+        for (final IObserverManagement object: this.observerInterests)
+            interests.acquire (object);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseObserverInterests ()
+    {
+        final ObserverInterests interests = this.model.getObserverInterests ();
+        for (final IObserverManagement object: this.observerInterests)
+            interests.release (object);
+    }
+
+
+    /**
+     * Declare that the feature group reads the given model objects while it is active. Their
+     * observers are disabled as long as no interested feature group is active. Call this in the
+     * constructor.
+     *
+     * @param objects The model objects
+     */
+    protected void addObserverInterests (final IObserverManagement... objects)
+    {
+        final ObserverInterests interests = this.model.getObserverInterests ();
+        for (final IObserverManagement object: objects)
+        {
+            if (object == null)
+                continue;
+            interests.declare (object);
+            this.observerInterests.add (object);
+        }
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getButtonColor (final ButtonID buttonID)
     {
-        return this.colorManager.getColorIndex (this.getButtonColorID (buttonID));
+        // Buttons mostly keep their color ID, only look up the handle if it changed
+        final int index = buttonID.ordinal ();
+        final ColorHandle colorHandle = this.colorManager.getColorHandle (this.buttonColorHandles[index], this.getButtonColorID (buttonID));
+        this.buttonColorHandles[index] = colorHandle;
+        return colorHandle.getColorIndex ();
     }
 
 
@@ -122,16 +122,20 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         if (this.isActive (id))
             return;
 
+        // Acquire the interests first to not disable shared model objects in between
+        final F activate = this.get (id);
+        activate.acquireObserverInterests ();
+
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            deactivate (deactivate);
         this.temporaryID = null;
 
         // Activate the feature group
         this.previousID = this.activeID;
         this.activeID = id;
-        this.get (this.activeID).onActivate ();
+        activate.onActivate ();
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -168,14 +172,18 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         if (this.isActive (featureGroupID))
             return;
 
+        // Acquire the interests first to not disable shared model objects in between
+        final F activate = this.get (featureGroupID);
+        activate.acquireObserverInterests ();
+
         // Deactivate the current temporary or active feature group
         final F deactivate = this.getActive ();
         if (deactivate != null)
-            deactivate.onDeactivate ();
+            deactivate (deactivate);
 
         // Activate the new temporary feature group
         this.temporaryID = featureGroupID;
-        this.get (this.temporaryID).onActivate ();
+        activate.onActivate ();
 
         if (syncSiblings)
             this.connectedManagers.forEach (sibling -> sibling.setActive (featureGroupID, false));
@@ -317,27 +325,22 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
         if (this.temporaryID != null)
         {
             oldID = this.temporaryID;
-            this.get (this.temporaryID).onDeactivate ();
+            final E newID = this.get (this.activeID) == null ? this.defaultID : this.activeID;
+            final F featureGroup = this.get (newID);
+            featureGroup.acquireObserverInterests ();
+            deactivate (this.get (this.temporaryID));
             this.temporaryID = null;
-            F featureGroup = this.get (this.activeID);
-            if (featureGroup == null)
-            {
-                this.activeID = this.defaultID;
-                featureGroup = this.get (this.activeID);
-            }
+            this.activeID = newID;
             featureGroup.onActivate ();
         }
         else if (this.previousID != null)
         {
             oldID = this.activeID;
-            this.get (this.activeID).onDeactivate ();
-            this.activeID = this.previousID;
-            F featureGroup = this.get (this.activeID);
-            if (featureGroup == null)
-            {
-                this.activeID = this.defaultID;
-                featureGroup = this.get (this.activeID);
-            }
+            final E newID = this.get (this.previousID) == null ? this.defaultID : this.previousID;
+            final F featureGroup = this.get (newID);
+            featureGroup.acquireObserverInterests ();
+            deactivate (this.get (this.activeID));
+            this.activeID = newID;
             featureGroup.onActivate ();
         }
 
@@ -349,6 +352,18 @@ public class FeatureGroupManager<E extends Enum<E>, F extends IFeatureGroup>
     }
 
 
+    /**
+     * Deactivate a feature group and release its interests in model objects.
+     *
+     * @param featureGroup The feature group to deactivate
+     */
+    private static void deactivate (final IFeatureGroup featureGroup)
+    {
+        featureGroup.onDeactivate ();
+        featureGroup.releaseObserverInterests ();
+    }
+
+
     /**
      * Register another manager. If a feature group changes all states are synchronized to the
      * registered siblings.
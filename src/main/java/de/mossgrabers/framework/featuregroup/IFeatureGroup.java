@@ -35,6 +35,27 @@ public interface IFeatureGroup
     void onDeactivate ();
 
 
+    /**
+     * Called before a feature group is activated. Enables the observers of the model objects which
+     * the feature group declared to read while it is active.
+     */
+    default void acquireObserverInterests ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Called after a feature group was deactivated. Disables the observers of the model objects
+     * which the feature group declared to read, if no other active feature group is interested in
+     * them.
+     */
+    default void releaseObserverInterests ()
+    {
+        // Intentionally empty
+    }
+
+
     /**
      * Get the color for a button, which is controlled by the feature group.
      *
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.graphics;
 
+import java.util.List;
+
+
 /**
  * An interface to a bitmap, which can also be displayed in a window.
  *
@@ -26,18 +29,22 @@ public interface IBitmap
 
 
     /**
-     * Render the content of the bitmap.
+     * Render the content of the bitmap. Drawing is clipped to the given areas, all other parts of
+     * the bitmap keep their previous content.
      *
      * @param enableAntialias True to enable anti aliasing
+     * @param areas The areas to which drawing is restricted
      * @param renderer The renderer to draw on the bitmap
      */
-    void render (boolean enableAntialias, IRenderer renderer);
+    void render (boolean enableAntialias, List<IBounds> areas, IRenderer renderer);
 
 
     /**
      * Encode the bitmap data into a different format.
      *
      * @param encoder The encoder to use
+     * @param dirtyAreas The areas which were rendered since the last encoding, empty if nothing
+     *            has changed
      */
-    void encode (IEncoder encoder);
+    void encode (IEncoder encoder, List<IBounds> dirtyAreas);
 }
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.graphics;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 
 
 /**
@@ -20,6 +21,8 @@ public interface IEncoder
      * @param imageBuffer The image data (red, green, blue, alpha, ...)
      * @param width The width of the image
      * @param height The height of the image
+     * @param dirtyAreas The areas which have changed since the last encoding, empty if nothing has
+     *            changed
      */
-    void encode (ByteBuffer imageBuffer, int width, int height);
+    void encode (ByteBuffer imageBuffer, int width, int height, List<IBounds> dirtyAreas);
 }
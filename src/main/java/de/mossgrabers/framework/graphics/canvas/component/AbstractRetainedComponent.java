@@ -0,0 +1,92 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.component;
+
+import de.mossgrabers.framework.graphics.IGraphicsInfo;
+
+
+/**
+ * Base class for a component which is created once for a column of a display and afterwards
+ * updated in place with setters. A setter only marks the component as changed if one of its values
+ * differs from the current one. The display uses this flag to detect the changed columns instead of
+ * comparing all values of the components. The component which does the drawing is only created
+ * again after a change.
+ *
+ * @param <T> The type of the component which draws the values
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class AbstractRetainedComponent<T extends IComponent> implements IComponent
+{
+    private T       component;
+    private boolean isChanged = true;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void draw (final IGraphicsInfo info)
+    {
+        this.getComponent ().draw (info);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDrawnInBounds ()
+    {
+        return this.getComponent ().isDrawnInBounds ();
+    }
+
+
+    /**
+     * Has one of the values changed since the last call to clearChanged?
+     *
+     * @return True if changed
+     */
+    public boolean isChanged ()
+    {
+        return this.isChanged;
+    }
+
+
+    /**
+     * Reset the changed flag, called by the display after it has compared the component.
+     */
+    public void clearChanged ()
+    {
+        this.isChanged = false;
+    }
+
+
+    /**
+     * Mark the component as changed. Needs to be called by the setters if a value has changed.
+     */
+    protected void setChanged ()
+    {
+        this.isChanged = true;
+        this.component = null;
+    }
+
+
+    /**
+     * Get the component which draws the current values.
+     *
+     * @return The component
+     */
+    protected T getComponent ()
+    {
+        if (this.component == null)
+            this.component = this.createComponent ();
+        return this.component;
+    }
+
+
+    /**
+     * Create a component which draws the current values.
+     *
+     * @return The component
+     */
+    protected abstract T createComponent ();
+}
@@ -20,4 +20,16 @@ public interface IComponent
      * @param info All necessary information to draw the component
      */
     void draw (final IGraphicsInfo info);
+
+
+    /**
+     * Does the component only draw inside of the bounds it was given? If not, it cannot be redrawn
+     * without also redrawing its neighbours.
+     *
+     * @return True if all drawing happens inside of the bounds
+     */
+    default boolean isDrawnInBounds ()
+    {
+        return true;
+    }
 }
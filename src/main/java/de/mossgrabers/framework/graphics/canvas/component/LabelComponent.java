@@ -238,6 +238,15 @@ public class LabelComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDrawnInBounds ()
+    {
+        // The small header also draws the menu border line of the separator left of it
+        return this.layout != LabelLayout.SMALL_HEADER;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -94,6 +94,15 @@ public class OptionsComponent implements IComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDrawnInBounds ()
+    {
+        // The header texts are not clipped
+        return (this.headerTop == null || this.headerTop.isEmpty ()) && (this.headerBottom == null || this.headerBottom.isEmpty ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
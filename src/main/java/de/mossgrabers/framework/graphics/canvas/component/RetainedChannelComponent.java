@@ -0,0 +1,179 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.component;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+
+import java.util.Objects;
+
+
+/**
+ * A retained channel column. Draws the same as the channel component.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RetainedChannelComponent extends AbstractRetainedComponent<ChannelComponent>
+{
+    private int         editType             = ChannelComponent.EDIT_TYPE_ALL;
+
+    private String      menuName             = "";
+    private boolean     isMenuSelected       = false;
+
+    private String      name                 = "";
+    private ChannelType type                 = null;
+    private ColorEx     color                = ColorEx.BLACK;
+    private boolean     isSelected           = false;
+
+    private int         volumeValue          = 0;
+    private int         modulatedVolumeValue = -1;
+    private String      volumeText           = "";
+    private int         panValue             = 0;
+    private int         modulatedPanValue    = -1;
+    private String      panText              = "";
+    private int         vuValueLeft          = 0;
+    private int         vuValueRight         = 0;
+
+    private boolean     isMute               = false;
+    private boolean     isSolo               = false;
+    private boolean     isArm                = false;
+    private boolean     isActive             = true;
+    private int         crossfadeMode        = 0;
+    private boolean     isPinned             = false;
+
+
+    /**
+     * Set what can be edited.
+     *
+     * @param editType One of the ChannelComponent.EDIT_TYPE_* constants
+     */
+    public void setEditType (final int editType)
+    {
+        if (this.editType == editType)
+            return;
+        this.editType = editType;
+        this.setChanged ();
+    }
+
+
+    /**
+     * Set the values of the top menu.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     */
+    public void setMenu (final String menuName, final boolean isMenuSelected)
+    {
+        if (this.isMenuSelected == isMenuSelected && Objects.equals (this.menuName, menuName))
+            return;
+        this.menuName = menuName;
+        this.isMenuSelected = isMenuSelected;
+        this.setChanged ();
+    }
+
+
+    /**
+     * Set the values of the footer.
+     *
+     * @param name The name of the channel
+     * @param type The type of the channel
+     * @param color The color of the channel, may be null
+     * @param isSelected True if the channel is selected
+     */
+    public void setFooter (final String name, final ChannelType type, final ColorEx color, final boolean isSelected)
+    {
+        if (this.isSelected == isSelected && this.type == type && Objects.equals (this.name, name) && Objects.equals (this.color, color))
+            return;
+        this.name = name;
+        this.type = type;
+        this.color = color;
+        this.isSelected = isSelected;
+        this.setChanged ();
+    }
+
+
+    /**
+     * Set the values of the volume.
+     *
+     * @param volumeValue The value of the volume
+     * @param modulatedVolumeValue The modulated value of the volume, -1 if not modulated
+     * @param volumeText The textual form of the volumes value
+     */
+    public void setVolume (final int volumeValue, final int modulatedVolumeValue, final String volumeText)
+    {
+        if (this.volumeValue == volumeValue && this.modulatedVolumeValue == modulatedVolumeValue && Objects.equals (this.volumeText, volumeText))
+            return;
+        this.volumeValue = volumeValue;
+        this.modulatedVolumeValue = modulatedVolumeValue;
+        this.volumeText = volumeText;
+        this.setChanged ();
+    }
+
+
+    /**
+     * Set the values of the panorama.
+     *
+     * @param panValue The value of the panorama
+     * @param modulatedPanValue The modulated value of the panorama, -1 if not modulated
+     * @param panText The textual form of the panorama
+     */
+    public void setPan (final int panValue, final int modulatedPanValue, final String panText)
+    {
+        if (this.panValue == panValue && this.modulatedPanValue == modulatedPanValue && Objects.equals (this.panText, panText))
+            return;
+        this.panValue = panValue;
+        this.modulatedPanValue = modulatedPanValue;
+        this.panText = panText;
+        this.setChanged ();
+    }
+
+
+    /**
+     * Set the values of the VU meters.
+     *
+     * @param vuValueLeft The value of the VU of the left channel
+     * @param vuValueRight The value of the VU of the right channel
+     */
+    public void setVU (final int vuValueLeft, final int vuValueRight)
+    {
+        if (this.vuValueLeft == vuValueLeft && this.vuValueRight == vuValueRight)
+            return;
+        this.vuValueLeft = vuValueLeft;
+        this.vuValueRight = vuValueRight;
+        this.setChanged ();
+    }
+
+
+    /**
+     * Set the states of the channel.
+     *
+     * @param isMute True if muted
+     * @param isSolo True if soloed
+     * @param isArm True if recording is armed
+     * @param isActive True if channel is activated
+     * @param crossfadeMode The cross-fader mode: 0 = A, 1 = AB, B = 2, -1 turns it off
+     * @param isPinned True if the channel is pinned
+     */
+    public void setStates (final boolean isMute, final boolean isSolo, final boolean isArm, final boolean isActive, final int crossfadeMode, final boolean isPinned)
+    {
+        if (this.isMute == isMute && this.isSolo == isSolo && this.isArm == isArm && this.isActive == isActive && this.crossfadeMode == crossfadeMode && this.isPinned == isPinned)
+            return;
+        this.isMute = isMute;
+        this.isSolo = isSolo;
+        this.isArm = isArm;
+        this.isActive = isActive;
+        this.crossfadeMode = crossfadeMode;
+        this.isPinned = isPinned;
+        this.setChanged ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected ChannelComponent createComponent ()
+    {
+        return new ChannelComponent (this.editType, this.menuName, this.isMenuSelected, this.name, this.color, this.isSelected, this.type, this.volumeValue, this.modulatedVolumeValue, this.volumeText, this.panValue, this.modulatedPanValue, this.panText, this.vuValueLeft, this.vuValueRight, this.isMute, this.isSolo, this.isArm, this.isActive, this.crossfadeMode, this.isPinned);
+    }
+}
@@ -0,0 +1,132 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.graphics.canvas.component;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+
+import java.util.Objects;
+
+
+/**
+ * A retained parameter column. Draws the same as the parameter component.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RetainedParameterComponent extends AbstractRetainedComponent<ParameterComponent>
+{
+    private String      menuName            = "";
+    private boolean     isMenuSelected      = false;
+
+    private String      name                = "";
+    private String      deviceName          = null;
+    private ChannelType type                = null;
+    private ColorEx     color               = ColorEx.BLACK;
+    private boolean     isSelected          = false;
+
+    private String      paramName           = "";
+    private int         paramValue          = -1;
+    private int         modulatedParamValue = -1;
+    private String      paramValueText      = "";
+    private boolean     isTouched           = false;
+
+
+    /**
+     * Set the values of the top menu.
+     *
+     * @param menuName The text for the menu
+     * @param isMenuSelected True if the menu is selected
+     */
+    public void setMenu (final String menuName, final boolean isMenuSelected)
+    {
+        if (this.isMenuSelected == isMenuSelected && Objects.equals (this.menuName, menuName))
+            return;
+        this.menuName = menuName;
+        this.isMenuSelected = isMenuSelected;
+        this.setChanged ();
+    }
+
+
+    /**
+     * Set the values of a device footer.
+     *
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param deviceName The name of the device, used to select the icon
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     */
+    public void setDeviceFooter (final String name, final String deviceName, final ColorEx color, final boolean isSelected)
+    {
+        this.setFooter (name, deviceName, null, color, isSelected);
+    }
+
+
+    /**
+     * Set the values of a channel footer.
+     *
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param type The type of the channel
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     */
+    public void setChannelFooter (final String name, final ChannelType type, final ColorEx color, final boolean isSelected)
+    {
+        this.setFooter (name, null, type, color, isSelected);
+    }
+
+
+    /**
+     * Set the values of the parameter.
+     *
+     * @param paramName The name of the parameter
+     * @param paramValue The value of the fader
+     * @param modulatedParamValue The modulated value of the fader, -1 if not modulated
+     * @param paramValueText The textual form of the faders value
+     * @param isTouched True if touched
+     */
+    public void setParameter (final String paramName, final int paramValue, final int modulatedParamValue, final String paramValueText, final boolean isTouched)
+    {
+        if (this.paramValue == paramValue && this.modulatedParamValue == modulatedParamValue && this.isTouched == isTouched && Objects.equals (this.paramName, paramName) && Objects.equals (this.paramValueText, paramValueText))
+            return;
+        this.paramName = paramName;
+        this.paramValue = paramValue;
+        this.modulatedParamValue = modulatedParamValue;
+        this.paramValueText = paramValueText;
+        this.isTouched = isTouched;
+        this.setChanged ();
+    }
+
+
+    /**
+     * Set the values of the footer.
+     *
+     * @param name The of the grid element (track name, parameter name, etc.)
+     * @param deviceName The name of the device, null for a channel footer
+     * @param type The type of the channel, null for a device footer
+     * @param color The color to use for the header, may be null
+     * @param isSelected True if the grid element is selected
+     */
+    private void setFooter (final String name, final String deviceName, final ChannelType type, final ColorEx color, final boolean isSelected)
+    {
+        if (this.isSelected == isSelected && this.type == type && Objects.equals (this.name, name) && Objects.equals (this.deviceName, deviceName) && Objects.equals (this.color, color))
+            return;
+        this.name = name;
+        this.deviceName = deviceName;
+        this.type = type;
+        this.color = color;
+        this.isSelected = isSelected;
+        this.setChanged ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected ParameterComponent createComponent ()
+    {
+        if (this.deviceName == null && this.type != null)
+            return new ParameterComponent (this.menuName, this.isMenuSelected, this.name, this.type, this.color, this.isSelected, this.paramName, this.paramValue, this.modulatedParamValue, this.paramValueText, this.isTouched);
+        return new ParameterComponent (this.menuName, this.isMenuSelected, this.name, this.deviceName, this.color, this.isSelected, this.paramName, this.paramValue, this.modulatedParamValue, this.paramValueText, this.isTouched);
+    }
+}
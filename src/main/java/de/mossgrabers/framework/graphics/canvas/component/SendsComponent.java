@@ -153,6 +153,15 @@ public class SendsComponent extends ChannelSelectComponent
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDrawnInBounds ()
+    {
+        // The background of the extended mode also covers the separator left of it
+        return !this.isExMode;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int hashCode ()
@@ -0,0 +1,71 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+
+/**
+ * Counts the interest of active feature groups (modes and views) in model objects. A model object
+ * which is declared as demand driven has its observers disabled as long as no interested feature
+ * group is active. Model objects which are never declared keep their observers enabled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ObserverInterests
+{
+    private final Map<IObserverManagement, Integer> interestCounts = new IdentityHashMap<> ();
+
+
+    /**
+     * Declare a model object as demand driven. Disables its observers if it was not declared
+     * before.
+     *
+     * @param object The model object
+     */
+    public void declare (final IObserverManagement object)
+    {
+        if (this.interestCounts.putIfAbsent (object, Integer.valueOf (0)) == null)
+            object.enableObservers (false);
+    }
+
+
+    /**
+     * Add an interest in a model object. Enables its observers if it is the first one.
+     *
+     * @param object The model object
+     */
+    public void acquire (final IObserverManagement object)
+    {
+        final int count = this.getCount (object);
+        this.interestCounts.put (object, Integer.valueOf (count + 1));
+        if (count == 0)
+            object.enableObservers (true);
+    }
+
+
+    /**
+     * Remove an interest in a model object. Disables its observers if it was the last one.
+     *
+     * @param object The model object
+     */
+    public void release (final IObserverManagement object)
+    {
+        final int count = this.getCount (object);
+        if (count == 0)
+            return;
+        this.interestCounts.put (object, Integer.valueOf (count - 1));
+        if (count == 1)
+            object.enableObservers (false);
+    }
+
+
+    private int getCount (final IObserverManagement object)
+    {
+        final Integer count = this.interestCounts.get (object);
+        return count == null ? 0 : count.intValue ();
+    }
+}
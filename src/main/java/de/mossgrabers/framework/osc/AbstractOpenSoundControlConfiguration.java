@@ -6,6 +6,7 @@ package de.mossgrabers.framework.osc;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.valuechanger.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
@@ -27,12 +28,18 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     public static final Integer   LOG_OUTPUT_COMMANDS       = Integer.valueOf (51);
     /** ID for filtering heartbeat OSC messages from logging. */
     public static final Integer   FILTER_HEARTBEAT_COMMANDS = Integer.valueOf (52);
+    /** ID for the maximum size of OSC bundles. */
+    public static final Integer   MAX_BUNDLE_SIZE           = Integer.valueOf (53);
 
     protected static final String DEFAULT_SERVER            = "127.0.0.1";
 
+    /** Fits into one UDP packet with the common Ethernet MTU of 1500 bytes. */
+    private static final int      DEFAULT_MAX_BUNDLE_SIZE   = 1472;
+
     private boolean               logInputCommands          = false;
     private boolean               logOutputCommands         = false;
     private boolean               filterHeartbeatCommands   = false;
+    private int                   maxBundleSize             = DEFAULT_MAX_BUNDLE_SIZE;
 
 
     /**
@@ -77,6 +84,24 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     }
 
 
+    /**
+     * Activate the maximum bundle size setting.
+     *
+     * @param settingsUI The settings
+     * @param category The category in which to place the setting
+     */
+    protected void activateMaxBundleSizeSetting (final ISettingsUI settingsUI, final String category)
+    {
+        final IIntegerSetting maxBundleSizeSetting = settingsUI.getRangeSetting ("Maximum bundle size", category, 512, 65000, 1, " bytes", DEFAULT_MAX_BUNDLE_SIZE);
+        maxBundleSizeSetting.addValueObserver (value -> {
+            this.maxBundleSize = value.intValue ();
+            this.notifyObservers (MAX_BUNDLE_SIZE);
+        });
+
+        this.isSettingActive.add (MAX_BUNDLE_SIZE);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean shouldLogInputCommands ()
@@ -99,4 +124,12 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     {
         return this.filterHeartbeatCommands;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxBundleSize ()
+    {
+        return this.maxBundleSize;
+    }
 }
@@ -8,12 +8,13 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.StringUtils;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 
 /**
@@ -23,14 +24,36 @@ import java.util.Map;
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
+    private static final int                       INITIAL_CAPACITY     = 1024;
+
+    private static final byte                      TYPE_INTEGER         = 1;
+    private static final byte                      TYPE_FLOAT           = 2;
+    private static final byte                      TYPE_COLOR           = 3;
+    private static final byte                      TYPE_STRING          = 4;
+    private static final byte                      TYPE_OBJECT          = 5;
+
+    private static final byte                      STATE_UNKNOWN        = 0;
+    private static final byte                      STATE_SUBSCRIBED     = 1;
+    private static final byte                      STATE_IGNORED        = 2;
+
     protected final IHost                          host;
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    private final OpenSoundControlSender           sender;
+
+    private final Map<String, Integer>             addressIDs           = new HashMap<> ();
+    private String []                              addresses            = new String [INITIAL_CAPACITY];
+    private byte []                                oldTypes             = new byte [INITIAL_CAPACITY];
+    private int []                                 oldNumbers           = new int [INITIAL_CAPACITY];
+    private Object []                              oldObjects           = new Object [INITIAL_CAPACITY];
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private final OpenSoundControlSubscriptions    subscriptions        = new OpenSoundControlSubscriptions ();
+    private byte []                                subscribedStates     = new byte [INITIAL_CAPACITY];
+    private int                                    subscriptionsVersion;
+
+    private final List<IOpenSoundControlMessage>   messages             = new ArrayList<> ();
 
 
     /**
@@ -47,6 +70,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         this.model = model;
         this.oscClient = oscClient;
         this.configuration = configuration;
+        this.sender = new OpenSoundControlSender (host, oscClient, configuration);
     }
 
 
@@ -72,22 +96,15 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
         synchronized (this.messages)
         {
-            try
-            {
-                if (updateAddress != null)
-                {
-                    this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
-                    this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
-                }
-
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
-            }
-            catch (final IOException ex)
+            if (updateAddress != null)
             {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
+                this.messages.add (0, this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (1))));
+                this.messages.add (this.host.createOSCMessage (updateAddress, Collections.singletonList (Integer.valueOf (0))));
             }
 
+            this.logMessages (this.messages);
+            this.sender.send (this.messages);
+
             this.messages.clear ();
         }
     }
@@ -114,19 +131,41 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
     private void fastSendOSC (final String address, final List<Object> parameters)
     {
-        this.sendOSC (address, parameters, true);
+        // Direct replies are neither registered, filtered by subscriptions nor cached
+        this.addMessage (address, parameters);
         this.flush ();
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getAddressID (final String address)
+    {
+        final Integer addressID = this.addressIDs.get (address);
+        if (addressID != null)
+            return addressID.intValue ();
+
+        final int newAddressID = this.addressIDs.size ();
+        if (newAddressID == this.addresses.length)
+        {
+            final int capacity = 2 * this.addresses.length;
+            this.addresses = Arrays.copyOf (this.addresses, capacity);
+            this.oldTypes = Arrays.copyOf (this.oldTypes, capacity);
+            this.oldNumbers = Arrays.copyOf (this.oldNumbers, capacity);
+            this.oldObjects = Arrays.copyOf (this.oldObjects, capacity);
+            this.subscribedStates = Arrays.copyOf (this.subscribedStates, capacity);
+        }
+        this.addresses[newAddressID] = address;
+        this.addressIDs.put (address, Integer.valueOf (newAddressID));
+        return newAddressID;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
     {
-        final int r = (int) Math.round (red * 255.0);
-        final int g = (int) Math.round (green * 255.0);
-        final int b = (int) Math.round (blue * 255.0);
-        this.sendOSC (address, "rgb(" + r + "," + g + "," + b + ")", dump);
+        this.sendOSCColor (this.getAddressID (address), red, green, blue, dump);
     }
 
 
@@ -134,7 +173,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.getAddressID (address), value, dump);
     }
 
 
@@ -142,8 +181,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final double value, final boolean dump)
     {
-        // Using float here since Double seems to be always received as 0 in Max.
-        this.sendOSC (address, Float.valueOf ((float) value), dump);
+        this.sendOSC (this.getAddressID (address), value, dump);
     }
 
 
@@ -151,7 +189,7 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final int value, final boolean dump)
     {
-        this.sendOSC (address, Integer.valueOf (value), dump);
+        this.sendOSC (this.getAddressID (address), value, dump);
     }
 
 
@@ -159,7 +197,132 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @Override
     public void sendOSC (final String address, final String value, final boolean dump)
     {
-        this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
+        this.sendOSC (this.getAddressID (address), value, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe (final String pattern)
+    {
+        if (this.subscriptions.add (pattern))
+            this.subscriptionsChanged ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unsubscribe (final String pattern)
+    {
+        if (pattern == null ? this.subscriptions.clear () : this.subscriptions.remove (pattern))
+            this.subscriptionsChanged ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSubscribed (final String branch)
+    {
+        return this.subscriptions.matchesBranch (branch);
+    }
+
+
+    /**
+     * Get the version of the subscriptions, which is increased on each change.
+     *
+     * @return The version
+     */
+    protected int getSubscriptionsVersion ()
+    {
+        return this.subscriptionsVersion;
+    }
+
+
+    private void subscriptionsChanged ()
+    {
+        this.subscriptionsVersion++;
+        Arrays.fill (this.subscribedStates, STATE_UNKNOWN);
+    }
+
+
+    /**
+     * Test if the address is subscribed. The result is cached until the subscriptions change.
+     *
+     * @param addressID The ID of the address
+     * @return True if subscribed or if there are no subscriptions
+     */
+    private boolean isAddressSubscribed (final int addressID)
+    {
+        if (this.subscriptions.isEmpty ())
+            return true;
+        if (this.subscribedStates[addressID] == STATE_UNKNOWN)
+            this.subscribedStates[addressID] = this.subscriptions.matchesAddress (this.addresses[addressID]) ? STATE_SUBSCRIBED : STATE_IGNORED;
+        return this.subscribedStates[addressID] == STATE_SUBSCRIBED;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSCColor (final int addressID, final double red, final double green, final double blue, final boolean dump)
+    {
+        if (!this.isAddressSubscribed (addressID))
+            return;
+
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        if (this.updateNumber (addressID, TYPE_COLOR, r << 16 | g << 8 | b, dump))
+            this.addMessage (this.addresses[addressID], "rgb(" + r + "," + g + "," + b + ")");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressID, final boolean value, final boolean dump)
+    {
+        this.sendOSC (addressID, value ? 1 : 0, dump);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressID, final double value, final boolean dump)
+    {
+        if (!this.isAddressSubscribed (addressID))
+            return;
+
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        if (this.updateNumber (addressID, TYPE_FLOAT, Float.floatToIntBits (floatValue), dump))
+            this.addMessage (this.addresses[addressID], Float.valueOf (floatValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressID, final int value, final boolean dump)
+    {
+        if (!this.isAddressSubscribed (addressID))
+            return;
+        if (this.updateNumber (addressID, TYPE_INTEGER, value, dump))
+            this.addMessage (this.addresses[addressID], Integer.valueOf (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendOSC (final int addressID, final String value, final boolean dump)
+    {
+        if (!this.isAddressSubscribed (addressID))
+            return;
+
+        // Compare the original text to prevent converting it on each flush
+        if (!dump && this.oldTypes[addressID] == TYPE_STRING && Objects.equals (this.oldObjects[addressID], value))
+            return;
+        this.oldTypes[addressID] = TYPE_STRING;
+        this.oldObjects[addressID] = value;
+
+        this.addMessage (this.addresses[addressID], StringUtils.fixASCII (value));
     }
 
 
@@ -174,27 +337,47 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      */
     protected void sendOSC (final String address, final Object value, final boolean dump)
     {
-        this.sendOSC (address, address, value, value, dump);
+        final int addressID = this.getAddressID (address);
+        if (!this.isAddressSubscribed (addressID))
+            return;
+        if (!dump && this.oldTypes[addressID] == TYPE_OBJECT && compareValues (this.oldObjects[addressID], value))
+            return;
+        this.oldTypes[addressID] = TYPE_OBJECT;
+        this.oldObjects[addressID] = value;
+
+        this.addMessage (address, value);
     }
 
 
     /**
-     * Tests if the value(s) of given message is identical to that of the cache. If this is not the
-     * case or if dump is true, the message is added to the messages list.The message will be sent
-     * when flush gets called.
+     * Tests if the number, which was sent last to the given address, is identical to the given
+     * one. If this is not the case or if dump is true, the cache is updated.
      *
-     * @param cacheAddress The address under which to cache the message
-     * @param address The address of the OSC message
-     * @param testValue The value(s) to use for testing
-     * @param value The value(s) of the OSC message
+     * @param addressID The ID of the address
+     * @param type The type of the value
+     * @param value The value or the bits of the value
      * @param dump True to dump (ignore cache)
+     * @return True if the value needs to be sent
      */
-    protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
+    private boolean updateNumber (final int addressID, final byte type, final int value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
-            return;
-        this.oldValues.put (cacheAddress, testValue);
+        if (!dump && this.oldTypes[addressID] == type && this.oldNumbers[addressID] == value)
+            return false;
+        this.oldTypes[addressID] = type;
+        this.oldNumbers[addressID] = value;
+        this.oldObjects[addressID] = null;
+        return true;
+    }
 
+
+    /**
+     * Adds a message to the messages list. The message will be sent when flush gets called.
+     *
+     * @param address The address of the OSC message
+     * @param value The value(s) of the OSC message
+     */
+    private void addMessage (final String address, final Object value)
+    {
         // Convert the value to a list in case it is not already one
         final List<?> list;
         if (value instanceof final List<?> l)
@@ -33,4 +33,12 @@ public interface IOpenSoundControlConfiguration
      * @return True to enable filtering
      */
     boolean filterHeartbeatMessages ();
+
+
+    /**
+     * Get the maximum size of an OSC bundle which is sent to the server.
+     *
+     * @return The size in bytes
+     */
+    int getMaxBundleSize ();
 }
@@ -20,7 +20,8 @@ public interface IOpenSoundControlWriter
 
 
     /**
-     * Adds the message to the queue and calls flush.
+     * Adds the message to the queue and calls flush. The message is sent regardless of
+     * subscriptions and does not update the cache of sent values.
      *
      * @param address The OSC address
      * @param numbers Integer parameters
@@ -29,7 +30,8 @@ public interface IOpenSoundControlWriter
 
 
     /**
-     * Adds the message to the queue and calls flush.
+     * Adds the message to the queue and calls flush. The message is sent regardless of
+     * subscriptions and does not update the cache of sent values.
      *
      * @param address The OSC address
      */
@@ -96,4 +98,105 @@ public interface IOpenSoundControlWriter
      * @param dump True to dump (ignore cache)
      */
     void sendOSC (String address, String value, boolean dump);
+
+
+    /**
+     * Get the ID of an OSC address. The address is registered, if it is used for the first time.
+     * Sending messages via the ID of an address prevents to create the address string on each
+     * flush.
+     *
+     * @param address The OSC address
+     * @return The ID of the address
+     */
+    int getAddressID (String address);
+
+
+    /**
+     * Send an OSC message with a color value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param addressID The ID of the address of the OSC message, see getAddressID
+     * @param red The red component of the color [0-1]
+     * @param green The green component of the color [0-1]
+     * @param blue The blue component of the color [0-1]
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSCColor (int addressID, double red, double green, double blue, boolean dump);
+
+
+    /**
+     * Send an OSC message with a boolean value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param addressID The ID of the address of the OSC message, see getAddressID
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressID, boolean value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a double value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param addressID The ID of the address of the OSC message, see getAddressID
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressID, double value, boolean dump);
+
+
+    /**
+     * Send an OSC message with an integer value. Tests if the value(s) of given message is
+     * identical to that of the cache. If this is not the case or if dump is true, the message is
+     * added to the messages list.The message will be sent when flush gets called.
+     *
+     * @param addressID The ID of the address of the OSC message, see getAddressID
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressID, int value, boolean dump);
+
+
+    /**
+     * Send an OSC message with a string value. Tests if the value(s) of given message is identical
+     * to that of the cache. If this is not the case or if dump is true, the message is added to the
+     * messages list.The message will be sent when flush gets called.
+     *
+     * @param addressID The ID of the address of the OSC message, see getAddressID
+     * @param value The value to send
+     * @param dump True to dump (ignore cache)
+     */
+    void sendOSC (int addressID, String value, boolean dump);
+
+
+    /**
+     * Subscribe to the addresses matching a pattern. As soon as there is a subscription, only
+     * messages with subscribed addresses are sent.
+     *
+     * @param pattern The address pattern, e.g. "/track/*&#47;volume", a segment '*' matches any
+     *            segment and all addresses below a matching address are matched as well
+     */
+    void subscribe (String pattern);
+
+
+    /**
+     * Remove a subscription.
+     *
+     * @param pattern The address pattern which was subscribed, removes all subscriptions if null
+     */
+    void unsubscribe (String pattern);
+
+
+    /**
+     * Test if there is a subscription for any address in a branch of the address space. Allows to
+     * skip the calculation of the values of a whole branch.
+     *
+     * @param branch The start of the addresses of the branch, e.g. "/track/*&#47;clip"
+     * @return True if the branch is subscribed or if there are no subscriptions at all
+     */
+    boolean isSubscribed (String branch);
 }
@@ -0,0 +1,187 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+
+/**
+ * Sends OSC messages as bundles to an OSC server. The messages are packed into bundles which do
+ * not exceed the configured maximum size. If there are more messages than fit into a few bundles
+ * the remaining ones are sent in further steps which are scheduled with a short delay. This slows
+ * down large updates (e.g. a full refresh) so that clients like Open Stage Control can keep up
+ * without blocking the calling thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSender
+{
+    /** The size of the bundle header: '#bundle' and the time tag. */
+    private static final int                      BUNDLE_HEADER_SIZE = 16;
+    /** The number of bundles sent in one step. */
+    private static final int                      BUNDLES_PER_STEP   = 4;
+    /** The delay between two steps in milliseconds. */
+    private static final long                     STEP_DELAY         = 10;
+
+    private final IHost                           host;
+    private final IOpenSoundControlClient         oscClient;
+    private final IOpenSoundControlConfiguration  configuration;
+
+    private final Deque<IOpenSoundControlMessage> pendingMessages    = new ArrayDeque<> ();
+    private final List<IOpenSoundControlMessage>  bundle             = new ArrayList<> ();
+    private boolean                               isStepScheduled    = false;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param oscClient The OSC client to send to
+     * @param configuration The OSC configuration
+     */
+    public OpenSoundControlSender (final IHost host, final IOpenSoundControlClient oscClient, final IOpenSoundControlConfiguration configuration)
+    {
+        this.host = host;
+        this.oscClient = oscClient;
+        this.configuration = configuration;
+    }
+
+
+    /**
+     * Send the messages. The first bundles are sent immediately if no messages from a previous call
+     * are still pending.
+     *
+     * @param messages The messages to send
+     */
+    public void send (final List<IOpenSoundControlMessage> messages)
+    {
+        synchronized (this.pendingMessages)
+        {
+            this.pendingMessages.addAll (messages);
+
+            // Keep the order of the messages, they are sent with the next scheduled step
+            if (!this.isStepScheduled)
+                this.sendStep ();
+        }
+    }
+
+
+    /**
+     * Send the next bundles of the pending messages.
+     */
+    private void sendScheduledStep ()
+    {
+        synchronized (this.pendingMessages)
+        {
+            this.isStepScheduled = false;
+            this.sendStep ();
+        }
+    }
+
+
+    /**
+     * Send the next bundles and schedule the next step if there are still messages left.
+     */
+    private void sendStep ()
+    {
+        final int maxBundleSize = this.configuration.getMaxBundleSize ();
+
+        for (int i = 0; i < BUNDLES_PER_STEP && !this.pendingMessages.isEmpty (); i++)
+        {
+            int bundleSize = BUNDLE_HEADER_SIZE;
+            while (!this.pendingMessages.isEmpty ())
+            {
+                // The size of each bundle element is preceded by its size
+                final int elementSize = 4 + estimateSize (this.pendingMessages.peekFirst ());
+                // A message which is larger than the maximum is sent in its own bundle
+                if (!this.bundle.isEmpty () && bundleSize + elementSize > maxBundleSize)
+                    break;
+                this.bundle.add (this.pendingMessages.removeFirst ());
+                bundleSize += elementSize;
+            }
+
+            try
+            {
+                this.oscClient.sendBundle (this.bundle);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not send UDP message.", ex);
+            }
+            this.bundle.clear ();
+        }
+
+        if (!this.pendingMessages.isEmpty ())
+        {
+            this.isStepScheduled = true;
+            this.host.scheduleTask (this::sendScheduledStep, STEP_DELAY);
+        }
+    }
+
+
+    /**
+     * Estimates the size of the encoded message.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    private static int estimateSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        // The address and the type tags (starts with a comma) are zero terminated strings
+        int size = paddedSize (stringSize (message.getAddress ()) + 1) + paddedSize (values.length + 2);
+        for (final Object value: values)
+        {
+            if (value == null || value instanceof Boolean)
+                continue;
+            if (value instanceof Long || value instanceof Double)
+                size += 8;
+            else if (value instanceof Number)
+                size += 4;
+            else if (value instanceof final byte [] blob)
+                size += 4 + paddedSize (blob.length);
+            else
+                size += paddedSize (stringSize (value.toString ()) + 1);
+        }
+        return size;
+    }
+
+
+    /**
+     * Get the number of bytes of the UTF-8 encoded text.
+     *
+     * @param text The text
+     * @return The number of bytes
+     */
+    private static int stringSize (final String text)
+    {
+        final int length = text.length ();
+        for (int i = 0; i < length; i++)
+        {
+            if (text.charAt (i) > 127)
+                return text.getBytes (StandardCharsets.UTF_8).length;
+        }
+        return length;
+    }
+
+
+    /**
+     * All elements of an OSC message are aligned to 4 bytes.
+     *
+     * @param size The size of the element
+     * @return The size padded to the next multiple of 4
+     */
+    private static int paddedSize (final int size)
+    {
+        return size + 3 & ~3;
+    }
+}
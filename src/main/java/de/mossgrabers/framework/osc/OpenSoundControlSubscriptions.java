@@ -0,0 +1,184 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * The address patterns to which the OSC clients are subscribed. A pattern consists of segments
+ * separated by slashes, a segment '*' matches any segment. A pattern matches all addresses which
+ * start with matching segments, e.g. "/track/*&#47;volume" matches "/track/1/volume" and
+ * "/track/1/volume/str". As long as there are no subscriptions all addresses are matched.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSubscriptions
+{
+    private final List<String> patterns = new ArrayList<> ();
+
+
+    /**
+     * Add a pattern.
+     *
+     * @param pattern The pattern, e.g. "/track/*&#47;volume"
+     * @return True if the pattern was not already present
+     */
+    public boolean add (final String pattern)
+    {
+        final String normalized = normalize (pattern);
+        if (this.patterns.contains (normalized))
+            return false;
+        this.patterns.add (normalized);
+        return true;
+    }
+
+
+    /**
+     * Remove a pattern.
+     *
+     * @param pattern The pattern
+     * @return True if the pattern was present
+     */
+    public boolean remove (final String pattern)
+    {
+        return this.patterns.remove (normalize (pattern));
+    }
+
+
+    /**
+     * Remove all patterns.
+     *
+     * @return True if there were any patterns
+     */
+    public boolean clear ()
+    {
+        if (this.patterns.isEmpty ())
+            return false;
+        this.patterns.clear ();
+        return true;
+    }
+
+
+    /**
+     * Test if there are no subscriptions.
+     *
+     * @return True if there are no subscriptions, therefore everything is matched
+     */
+    public boolean isEmpty ()
+    {
+        return this.patterns.isEmpty ();
+    }
+
+
+    /**
+     * Test if an address is matched by one of the patterns.
+     *
+     * @param address The OSC address
+     * @return True if matched or if there are no subscriptions
+     */
+    public boolean matchesAddress (final String address)
+    {
+        return this.matches (address, false);
+    }
+
+
+    /**
+     * Test if one of the patterns matches an address in a branch of the address space, which means
+     * that the addresses of the branch need to be sent.
+     *
+     * @param branch The start of the addresses of the branch, e.g. "/track/*&#47;clip", a segment
+     *            '*' matches any segment of the patterns
+     * @return True if matched or if there are no subscriptions
+     */
+    public boolean matchesBranch (final String branch)
+    {
+        return this.matches (branch, true);
+    }
+
+
+    private boolean matches (final String address, final boolean isBranch)
+    {
+        if (this.patterns.isEmpty ())
+            return true;
+        for (int i = 0; i < this.patterns.size (); i++)
+        {
+            if (matches (this.patterns.get (i), address, isBranch))
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Compares the pattern and the address segment by segment. Does not create any objects.
+     *
+     * @param pattern The pattern
+     * @param address The address or branch
+     * @param isBranch If true the address also matches if the pattern is longer
+     * @return True if matched
+     */
+    private static boolean matches (final String pattern, final String address, final boolean isBranch)
+    {
+        final int patternLength = pattern.length ();
+        final int addressLength = address.length ();
+        int patternStart = 1;
+        int addressStart = 1;
+        while (patternStart < patternLength)
+        {
+            if (addressStart >= addressLength)
+                return isBranch;
+
+            final int patternEnd = getSegmentEnd (pattern, patternStart);
+            final int addressEnd = getSegmentEnd (address, addressStart);
+            if (!segmentMatches (pattern, patternStart, patternEnd, address, addressStart, addressEnd))
+                return false;
+
+            patternStart = patternEnd + 1;
+            addressStart = addressEnd + 1;
+        }
+        return true;
+    }
+
+
+    private static boolean segmentMatches (final String pattern, final int patternStart, final int patternEnd, final String address, final int addressStart, final int addressEnd)
+    {
+        if (isWildcard (pattern, patternStart, patternEnd) || isWildcard (address, addressStart, addressEnd))
+            return true;
+        final int length = patternEnd - patternStart;
+        return length == addressEnd - addressStart && pattern.regionMatches (patternStart, address, addressStart, length);
+    }
+
+
+    private static boolean isWildcard (final String text, final int start, final int end)
+    {
+        return end - start == 1 && text.charAt (start) == '*';
+    }
+
+
+    private static int getSegmentEnd (final String text, final int start)
+    {
+        final int end = text.indexOf ('/', start);
+        return end < 0 ? text.length () : end;
+    }
+
+
+    /**
+     * Ensures that the pattern starts with a slash and removes a trailing slash.
+     *
+     * @param pattern The pattern
+     * @return The normalized pattern
+     */
+    private static String normalize (final String pattern)
+    {
+        String normalized = pattern.trim ();
+        if (!normalized.startsWith ("/"))
+            normalized = "/" + normalized;
+        if (normalized.length () > 1 && normalized.endsWith ("/"))
+            normalized = normalized.substring (0, normalized.length () - 1);
+        return normalized;
+    }
+}
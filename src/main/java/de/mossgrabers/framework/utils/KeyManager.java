@@ -6,14 +6,14 @@ package de.mossgrabers.framework.utils;
 
 import de.mossgrabers.framework.controller.grid.IPadGrid;
 import de.mossgrabers.framework.daw.IModel;
-import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.data.bank.ITrackBank;
 import de.mossgrabers.framework.observer.INoteObserver;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Optional;
 
 
 /**
@@ -23,11 +23,17 @@ import java.util.Optional;
  */
 public class KeyManager implements INoteObserver
 {
-    private final int []   pressedKeys = new int [128];
-    private final IModel   model;
-    private final Scales   scales;
-    private final IPadGrid padGrid;
-    private int []         noteMap     = Scales.getEmptyMatrix ();
+    private static final int [] NO_PADS       = new int [0];
+
+    private final int []        pressedKeys   = new int [128];
+    /** The keys which have a velocity larger than 0. */
+    private final BitSet        pressedKeySet = new BitSet (128);
+    private final IModel        model;
+    private final Scales        scales;
+    private final IPadGrid      padGrid;
+    private int []              noteMap       = Scales.getEmptyMatrix ();
+    /** The pads (indices into the note map) which are mapped to a note, indexed by the note. */
+    private int [] []           padsOfNote    = createPadsOfNote (this.noteMap);
 
 
     /**
@@ -52,6 +58,7 @@ public class KeyManager implements INoteObserver
     public void clearPressedKeys ()
     {
         Arrays.fill (this.pressedKeys, 0);
+        this.pressedKeySet.clear ();
     }
 
 
@@ -76,6 +83,7 @@ public class KeyManager implements INoteObserver
     public void setKeyPressed (final int key, final int velocity)
     {
         this.pressedKeys[key] = velocity;
+        this.pressedKeySet.set (key, velocity != 0);
     }
 
 
@@ -87,11 +95,10 @@ public class KeyManager implements INoteObserver
      */
     public void setAllKeysPressed (final int key, final int velocity)
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.noteMap[i] == key)
-                this.setKeyPressed (i, velocity);
-        }
+        if (key < 0 || key >= this.padsOfNote.length)
+            return;
+        for (final int pad: this.padsOfNote[key])
+            this.setKeyPressed (pad, velocity);
     }
 
 
@@ -99,8 +106,9 @@ public class KeyManager implements INoteObserver
     @Override
     public void call (final int trackIndex, final int note, final int velocity)
     {
-        final Optional<ITrack> sel = this.model.getCurrentTrackBank ().getSelectedItem ();
-        if (sel.isPresent () && sel.get ().getIndex () == trackIndex)
+        // Only check the track which sent the note instead of searching the selected one
+        final ITrackBank trackBank = this.model.getCurrentTrackBank ();
+        if (trackIndex >= 0 && trackIndex < trackBank.getPageSize () && trackBank.getItem (trackIndex).isSelected ())
             this.setAllKeysPressed (note, velocity);
     }
 
@@ -113,15 +121,25 @@ public class KeyManager implements INoteObserver
     public List<Integer> getPressedKeys ()
     {
         final List<Integer> keys = new ArrayList<> ();
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                keys.add (Integer.valueOf (i));
-        }
+        for (int key = this.getNextPressedKey (0); key >= 0; key = this.getNextPressedKey (key + 1))
+            keys.add (Integer.valueOf (key));
         return keys;
     }
 
 
+    /**
+     * Get the next pressed key. Iterate all pressed keys without creating objects with:<br>
+     * <code>for (int key = keyManager.getNextPressedKey (0); key &gt;= 0; key = keyManager.getNextPressedKey (key + 1))</code>
+     *
+     * @param fromKey The key to start the search from (inclusive)
+     * @return The next pressed key or -1 if there is none
+     */
+    public int getNextPressedKey (final int fromKey)
+    {
+        return this.pressedKeySet.nextSetBit (fromKey);
+    }
+
+
     /**
      * Check if there are pressed keys.
      *
@@ -129,12 +147,7 @@ public class KeyManager implements INoteObserver
      */
     public boolean hasPressedKeys ()
     {
-        for (int i = 0; i < 128; i++)
-        {
-            if (this.pressedKeys[i] != 0)
-                return true;
-        }
-        return false;
+        return !this.pressedKeySet.isEmpty ();
     }
 
 
@@ -185,5 +198,37 @@ public class KeyManager implements INoteObserver
     public void setNoteMatrix (final int [] matrix)
     {
         this.noteMap = matrix;
+        this.padsOfNote = createPadsOfNote (matrix);
+    }
+
+
+    /**
+     * Create the inverse of a note matrix: the pads which are mapped to each note. A note can be
+     * mapped to several pads.
+     *
+     * @param matrix The note matrix
+     * @return The pads for each of the 128 notes
+     */
+    private static int [] [] createPadsOfNote (final int [] matrix)
+    {
+        final int [] counts = new int [128];
+        for (final int note: matrix)
+        {
+            if (note >= 0 && note < 128)
+                counts[note]++;
+        }
+
+        final int [] [] padsOfNote = new int [128] [];
+        for (int note = 0; note < 128; note++)
+            padsOfNote[note] = counts[note] == 0 ? NO_PADS : new int [counts[note]];
+
+        Arrays.fill (counts, 0);
+        for (int pad = 0; pad < matrix.length; pad++)
+        {
+            final int note = matrix[pad];
+            if (note >= 0 && note < 128)
+                padsOfNote[note][counts[note]++] = pad;
+        }
+        return padsOfNote;
     }
 }
@@ -0,0 +1,154 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A histogram for durations in nanoseconds. The buckets grow exponentially but each power of 2 is
+ * split into 8 linear sub-buckets, therefore the error of a reported value is less than 12.5%.
+ * Recording a value does not lock or create objects and can be done from any thread while the
+ * values are read from another.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LatencyHistogram
+{
+    private static final int      SUB_BUCKET_BITS  = 3;
+    private static final int      SUB_BUCKETS      = 1 << SUB_BUCKET_BITS;
+    /** Values below are stored with their exact value. */
+    private static final int      LINEAR_LIMIT     = 2 * SUB_BUCKETS;
+    private static final int      LINEAR_LIMIT_EXP = SUB_BUCKET_BITS + 1;
+    private static final int      NUM_BUCKETS      = LINEAR_LIMIT + (63 - LINEAR_LIMIT_EXP) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts           = new AtomicLongArray (NUM_BUCKETS);
+    private final AtomicLong      totalCount       = new AtomicLong ();
+    private final AtomicLong      totalDuration    = new AtomicLong ();
+    private final AtomicLong      maxDuration      = new AtomicLong ();
+
+
+    /**
+     * Record a duration.
+     *
+     * @param nanos The duration in nanoseconds, negative values are recorded as 0
+     */
+    public void record (final long nanos)
+    {
+        final long value = Math.max (0, nanos);
+        this.counts.incrementAndGet (getBucket (value));
+        this.totalCount.incrementAndGet ();
+        this.totalDuration.addAndGet (value);
+        this.maxDuration.accumulateAndGet (value, Math::max);
+    }
+
+
+    /**
+     * Get the number of recorded durations.
+     *
+     * @return The number
+     */
+    public long getCount ()
+    {
+        return this.totalCount.get ();
+    }
+
+
+    /**
+     * Get the average of the recorded durations.
+     *
+     * @return The average in nanoseconds, 0 if nothing was recorded
+     */
+    public long getMean ()
+    {
+        final long count = this.totalCount.get ();
+        return count == 0 ? 0 : this.totalDuration.get () / count;
+    }
+
+
+    /**
+     * Get the longest recorded duration.
+     *
+     * @return The duration in nanoseconds
+     */
+    public long getMax ()
+    {
+        return this.maxDuration.get ();
+    }
+
+
+    /**
+     * Get the duration below which the given percentage of the recorded durations lie.
+     *
+     * @param percentile The percentile (0-100)
+     * @return The upper bound of the bucket containing the percentile in nanoseconds, 0 if nothing
+     *         was recorded
+     */
+    public long getValueAtPercentile (final double percentile)
+    {
+        long total = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            total += this.counts.get (i);
+        if (total == 0)
+            return 0;
+
+        final long threshold = Math.max (1, (long) Math.ceil (Math.min (100, percentile) / 100.0 * total));
+        long sum = 0;
+        for (int i = 0; i < NUM_BUCKETS; i++)
+        {
+            sum += this.counts.get (i);
+            if (sum >= threshold)
+                return Math.min (this.getMax (), getUpperBound (i));
+        }
+        return this.getMax ();
+    }
+
+
+    /**
+     * Remove all recorded durations.
+     */
+    public void reset ()
+    {
+        for (int i = 0; i < NUM_BUCKETS; i++)
+            this.counts.set (i, 0);
+        this.totalCount.set (0);
+        this.totalDuration.set (0);
+        this.maxDuration.set (0);
+    }
+
+
+    /**
+     * Get the index of the bucket for a value.
+     *
+     * @param value The value, must not be negative
+     * @return The index
+     */
+    private static int getBucket (final long value)
+    {
+        if (value < LINEAR_LIMIT)
+            return (int) value;
+        final int exponent = 63 - Long.numberOfLeadingZeros (value);
+        final int subBucket = (int) (value >>> exponent - SUB_BUCKET_BITS) & SUB_BUCKETS - 1;
+        return LINEAR_LIMIT + (exponent - LINEAR_LIMIT_EXP) * SUB_BUCKETS + subBucket;
+    }
+
+
+    /**
+     * Get the largest value which is stored in a bucket.
+     *
+     * @param bucket The index of the bucket
+     * @return The value
+     */
+    private static long getUpperBound (final int bucket)
+    {
+        if (bucket < LINEAR_LIMIT)
+            return bucket;
+        final int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_LIMIT_EXP;
+        final long subBucket = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return (SUB_BUCKETS + subBucket + 1 << shift) - 1;
+    }
+}
@@ -0,0 +1,130 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2022
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Executes tasks on one thread which is shared by all users (e.g. several displays). Each task is
+ * submitted with a key. When new tasks arrive for a key whose previous task was not yet executed,
+ * only the latest one is stored for execution. Tasks with different keys are executed in the order
+ * in which they were first submitted.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SharedLatestTaskExecutor
+{
+    private static final Object             INSTANCE_LOCK = new Object ();
+    private static SharedLatestTaskExecutor instance;
+
+    private final ExecutorService           executor      = Executors.newSingleThreadExecutor ();
+    private final Map<Object, Runnable>     pendingTasks  = new HashMap<> ();
+    private int                             users         = 0;
+
+
+    /**
+     * Private due to shared instance.
+     */
+    private SharedLatestTaskExecutor ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the shared instance. It is created if there is no user yet. Each call must be matched by
+     * a call to release.
+     *
+     * @return The shared instance
+     */
+    public static SharedLatestTaskExecutor acquire ()
+    {
+        synchronized (INSTANCE_LOCK)
+        {
+            if (instance == null)
+                instance = new SharedLatestTaskExecutor ();
+            instance.users++;
+            return instance;
+        }
+    }
+
+
+    /**
+     * Execute a task. If there is already a task pending for the given key it is replaced.
+     *
+     * @param key The key, e.g. a specific line of a display
+     * @param task The task to execute
+     */
+    public void execute (final Object key, final Runnable task)
+    {
+        synchronized (this.pendingTasks)
+        {
+            // Already queued?
+            if (this.pendingTasks.put (key, task) != null)
+                return;
+        }
+
+        try
+        {
+            this.executor.execute ( () -> {
+                final Runnable latestTask;
+                synchronized (this.pendingTasks)
+                {
+                    latestTask = this.pendingTasks.remove (key);
+                }
+                if (latestTask != null)
+                    latestTask.run ();
+            });
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Executor was already shutdown, drop the task
+            synchronized (this.pendingTasks)
+            {
+                this.pendingTasks.remove (key);
+            }
+        }
+    }
+
+
+    /**
+     * Release the executor. Waits until all tasks, which were submitted before, have been executed.
+     * If it is the last user the thread is ended.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit The time unit of the timeout argument
+     * @return True if all tasks were executed, false if the timeout elapsed
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public boolean release (final long timeout, final TimeUnit unit) throws InterruptedException
+    {
+        final boolean isLastUser;
+        synchronized (INSTANCE_LOCK)
+        {
+            this.users--;
+            isLastUser = this.users <= 0;
+            if (isLastUser)
+            {
+                if (instance == this)
+                    instance = null;
+                this.executor.shutdown ();
+            }
+        }
+
+        if (isLastUser)
+            return this.executor.awaitTermination (timeout, unit);
+
+        final CountDownLatch latch = new CountDownLatch (1);
+        this.execute (latch, latch::countDown);
+        return latch.await (timeout, unit);
+    }
+}
@@ -353,7 +353,9 @@ public class StringUtils
      */
     public static String formatMeasures (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames)
     {
-        return formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, "%d.%d.%d", "%d.%d.%d:%03d");
+        final StringBuilder sb = new StringBuilder (16);
+        appendMeasures (sb, quartersPerMeasure, beats, startOffset, includeFrames, 1, 3);
+        return sb.toString ();
     }
 
 
@@ -369,7 +371,9 @@ public class StringUtils
      */
     public static String formatMeasuresLong (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames)
     {
-        return formatMeasures (quartersPerMeasure, beats, startOffset, includeFrames, "%03d.%d.%d", "%d.%d.%d:%02d");
+        final StringBuilder sb = new StringBuilder (16);
+        appendMeasures (sb, quartersPerMeasure, beats, startOffset, includeFrames, includeFrames ? 1 : 3, 2);
+        return sb.toString ();
     }
 
 
@@ -383,7 +387,9 @@ public class StringUtils
      */
     public static String formatTime (final double tempo, final double beats, final boolean includeFrames)
     {
-        return formatTime (tempo, beats, includeFrames, "%d.%d.%d", "%d.%d.%d:%03d");
+        final StringBuilder sb = new StringBuilder (16);
+        appendTime (sb, tempo, beats, includeFrames, 1, 1);
+        return sb.toString ();
     }
 
 
@@ -397,11 +403,25 @@ public class StringUtils
      */
     public static String formatTimeLong (final double tempo, final double beats, final boolean includeFrames)
     {
-        return formatTime (tempo, beats, includeFrames, "%02d.%02d.%02d", "%d.%02d.%02d:%03d");
+        final StringBuilder sb = new StringBuilder (16);
+        appendTime (sb, tempo, beats, includeFrames, includeFrames ? 1 : 2, 2);
+        return sb.toString ();
     }
 
 
-    private static String formatMeasures (final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames, final String shortFormat, final String longFormat)
+    /**
+     * Append the given time as measure.quarters.eights / measure.quarters.eights:ticks. Does not
+     * use a formatter since this is called several times on each flush.
+     *
+     * @param sb Where to append the text
+     * @param quartersPerMeasure The number of quarters of a measure
+     * @param beats The beats to format
+     * @param startOffset An offset that is added to the measure, quarter and eights values
+     * @param includeFrames Add the frames (ticks) if true
+     * @param measureDigits The minimum number of digits of the measure, padded with zeros
+     * @param frameDigits The minimum number of digits of the frames, padded with zeros
+     */
+    private static void appendMeasures (final StringBuilder sb, final int quartersPerMeasure, final double beats, final int startOffset, final boolean includeFrames, final int measureDigits, final int frameDigits)
     {
         final int measure = (int) Math.floor (beats / quartersPerMeasure);
         double t = beats - measure * quartersPerMeasure;
@@ -409,16 +429,33 @@ public class StringUtils
         t = t - quarters; // *1
         final int eights = (int) Math.floor (t / 0.25);
 
+        appendNumber (sb, measure + startOffset, measureDigits);
+        sb.append ('.');
+        sb.append (quarters + startOffset);
+        sb.append ('.');
+        sb.append (eights + startOffset);
         if (!includeFrames)
-            return String.format (shortFormat, Integer.valueOf (measure + startOffset), Integer.valueOf (quarters + startOffset), Integer.valueOf (eights + startOffset));
+            return;
 
         t = t - eights * 0.25;
         final int frames = (int) Math.floor (t / 0.25 * 100.0);
-        return String.format (longFormat, Integer.valueOf (measure + startOffset), Integer.valueOf (quarters + startOffset), Integer.valueOf (eights + startOffset), Integer.valueOf (frames));
+        sb.append (':');
+        appendNumber (sb, frames, frameDigits);
     }
 
 
-    private static String formatTime (final double tempo, final double beats, final boolean includeFrames, final String shortFormat, final String longFormat)
+    /**
+     * Append the given time as hours.minutes.seconds / hours.minutes.seconds:millis. Does not use a
+     * formatter since this is called several times on each flush.
+     *
+     * @param sb Where to append the text
+     * @param tempo The tempo
+     * @param beats The beats to format as time
+     * @param includeFrames Add the frames (ticks) if true
+     * @param hourDigits The minimum number of digits of the hours, padded with zeros
+     * @param digits The minimum number of digits of the minutes and seconds, padded with zeros
+     */
+    private static void appendTime (final StringBuilder sb, final double tempo, final double beats, final boolean includeFrames, final int hourDigits, final int digits)
     {
         final double time = beats * 60.0 / tempo;
 
@@ -428,11 +465,44 @@ public class StringUtils
         t = (t - minutes) / 60.0;
         final int hours = (int) Math.floor (t);
 
+        appendNumber (sb, hours, hourDigits);
+        sb.append ('.');
+        appendNumber (sb, minutes, digits);
+        sb.append ('.');
+        appendNumber (sb, seconds, digits);
         if (!includeFrames)
-            return String.format (shortFormat, Integer.valueOf (minutes), Integer.valueOf (seconds));
+            return;
 
         final int millis = (int) ((time - ((hours * 60 + minutes) * 60 + seconds)) * 1000);
-        return String.format (longFormat, Integer.valueOf (hours), Integer.valueOf (minutes), Integer.valueOf (seconds), Integer.valueOf (millis));
+        sb.append (':');
+        appendNumber (sb, millis, 3);
+    }
+
+
+    /**
+     * Append a number padded with leading zeros, like the format %0nd.
+     *
+     * @param sb Where to append the number
+     * @param number The number
+     * @param minDigits The minimum number of characters including the minus sign
+     */
+    private static void appendNumber (final StringBuilder sb, final int number, final int minDigits)
+    {
+        int value = number;
+        int width = minDigits;
+        if (value < 0)
+        {
+            sb.append ('-');
+            value = -value;
+            width--;
+        }
+
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10)
+            digits++;
+        for (; digits < width; digits++)
+            sb.append ('0');
+        sb.append (value);
     }
 
 
@@ -447,25 +447,25 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
      */
     public LightInfo getPadColor (final ISlot slot, final boolean isArmed)
     {
-        final String colorIndex = DAWColor.getColorID (slot.getColor ());
+        final DAWColor dawColor = DAWColor.getClosestColor (slot.getColor ());
         final ColorManager cm = this.model.getColorManager ();
 
         if (slot.isRecordingQueued ())
             return this.clipColorIsRecordingQueued;
 
         if (slot.isRecording ())
-            return this.insertClipColor (cm, colorIndex, this.clipColorIsRecording);
+            return this.insertClipColor (cm, dawColor, this.clipColorIsRecording);
 
         if (slot.isPlayingQueued ())
-            return this.insertClipColor (cm, colorIndex, this.clipColorIsPlayingQueued);
+            return this.insertClipColor (cm, dawColor, this.clipColorIsPlayingQueued);
 
         if (slot.isPlaying ())
-            return this.insertClipColor (cm, colorIndex, this.clipColorIsPlaying);
+            return this.insertClipColor (cm, dawColor, this.clipColorIsPlaying);
 
         if (slot.hasContent ())
         {
             final int blinkColor = this.clipColorHasContent.getBlinkColor ();
-            final int color = this.useClipColor && colorIndex != null ? cm.getColorIndex (colorIndex) : this.clipColorHasContent.getColor ();
+            final int color = this.useClipColor ? cm.getColorIndex (dawColor) : this.clipColorHasContent.getColor ();
             return new LightInfo (color, slot.isSelected () ? blinkColor : -1, this.clipColorHasContent.isFast ());
         }
 
@@ -488,17 +488,17 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
      * the clips' color.
      *
      * @param colorManager The color manager
-     * @param colorIndex The index of the clip color
+     * @param dawColor The clip color
      * @param lightInfo The light info
      * @return THe updated light info
      */
-    private LightInfo insertClipColor (final ColorManager colorManager, final String colorIndex, final LightInfo lightInfo)
+    private LightInfo insertClipColor (final ColorManager colorManager, final DAWColor dawColor, final LightInfo lightInfo)
     {
-        if (this.useClipColor && colorIndex != null)
+        if (this.useClipColor)
         {
             final int blinkColor = lightInfo.getBlinkColor ();
             if (blinkColor > 0)
-                return new LightInfo (colorManager.getColorIndex (colorIndex), blinkColor, lightInfo.isFast ());
+                return new LightInfo (colorManager.getColorIndex (dawColor), blinkColor, lightInfo.isFast ());
         }
         return lightInfo;
     }